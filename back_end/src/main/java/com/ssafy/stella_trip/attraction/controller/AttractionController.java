@@ -1,9 +1,16 @@
 package com.ssafy.stella_trip.attraction.controller;
 
 import com.ssafy.stella_trip.attraction.dto.request.ReviewRequestDTO;
+import com.ssafy.stella_trip.attraction.dto.response.AttractionClusterResponseDTO;
 import com.ssafy.stella_trip.attraction.dto.response.AttractionResponseDTO;
+import com.ssafy.stella_trip.attraction.dto.response.MapAttractionResponseDTO;
 import com.ssafy.stella_trip.attraction.dto.response.ReviewResponseDTO;
+import com.ssafy.stella_trip.attraction.dto.response.SuggestionResponseDTO;
+import com.ssafy.stella_trip.attraction.service.AttractionMapService;
 import com.ssafy.stella_trip.attraction.service.AttractionService;
+import com.ssafy.stella_trip.attraction.service.SuggestService;
+import com.ssafy.stella_trip.common.dto.CursorPageDTO;
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
 import com.ssafy.stella_trip.common.dto.PageDTO;
 import com.ssafy.stella_trip.common.response.CommonResponse;
 import com.ssafy.stella_trip.security.dto.JwtUserInfo;
@@ -26,6 +33,8 @@ import java.util.List;
 public class AttractionController {
 
     private final AttractionService attractionService;
+    private final SuggestService suggestService;
+    private final AttractionMapService attractionMapService;
 
     @GetMapping()
     @PreAuthorize("permitAll()")
@@ -50,6 +59,118 @@ public class AttractionController {
         return new CommonResponse<>(attractionService.getAttractionsByCondition(sidoCode, gugunCode, contentTypeIds, keyword, page, size, user), HttpStatus.OK);
     }
 
+    @GetMapping(params = "cursor")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "여행지 필터링 조회 (커서 방식)",
+            description = "cursor 파라미터가 있으면 커서 방식으로 조회합니다. \n" +
+                    "첫 페이지는 cursor를 빈 값으로, 이후에는 응답의 nextCursor를 넘깁니다. \n" +
+                    "withTotal=true일 때만 전체 개수를 함께 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "COMMON-003: 잘못된 커서입니다."),
+    })
+    public CommonResponse<CursorPageDTO<AttractionResponseDTO>> getAttractionsByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+            @RequestParam(value = "sidoCode", required = false) Integer sidoCode,
+            @RequestParam(value = "gugunCode", required = false) Integer gugunCode,
+            @RequestParam(value = "contentTypeIds", required = false) List<Integer> contentTypeIds,
+            @RequestParam(value = "keyword", defaultValue = "") String keyword,
+            @AuthenticationPrincipal JwtUserInfo user
+    ) {
+        return new CommonResponse<>(attractionService.getAttractionsByCursor(sidoCode, gugunCode, contentTypeIds, keyword, cursor, size, withTotal, user), HttpStatus.OK);
+    }
+
+    @GetMapping("/suggest")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 여행지 이름, 태그, 시도 / 구군 이름을 인기순으로 반환합니다. \n" +
+                    "단어 중간부터 입력해도 띄어쓰기 기준 단어 시작과 일치하면 포함됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+    })
+    public CommonResponse<List<SuggestionResponseDTO>> suggest(
+            @RequestParam(value = "prefix") String prefix,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return new CommonResponse<>(suggestService.suggest(prefix, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/nearby")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "주변 여행지 조회",
+            description = "중심 좌표(lat, lng)에서 반경(radius, m) 안의 여행지를 조회합니다. \n" +
+                    "sort는 distance(기본) / like / rating이며, 응답의 distance는 중심점과의 거리(m)입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "ATTRACTION-009: 잘못된 지도 조회 범위입니다."),
+            @ApiResponse(responseCode = "503", description = "SEARCH-001: 색인을 준비 중입니다."),
+    })
+    public CommonResponse<List<MapAttractionResponseDTO>> getNearbyAttractions(
+            @RequestParam(value = "lat") double latitude,
+            @RequestParam(value = "lng") double longitude,
+            @RequestParam(value = "radius", defaultValue = "1000") int radius,
+            @RequestParam(value = "contentTypeIds", required = false) List<Integer> contentTypeIds,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "size", defaultValue = "50") int size
+    ) {
+        return new CommonResponse<>(attractionMapService.getNearbyAttractions(latitude, longitude, radius, contentTypeIds, sort, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/area")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "지도 영역 여행지 조회",
+            description = "남서쪽(minLat, minLng)과 북동쪽(maxLat, maxLng) 좌표로 이루어진 영역 안의 여행지를 조회합니다. \n" +
+                    "sort는 like(기본) / rating / distance(영역 중심 기준)입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "ATTRACTION-009: 잘못된 지도 조회 범위입니다."),
+            @ApiResponse(responseCode = "503", description = "SEARCH-001: 색인을 준비 중입니다."),
+    })
+    public CommonResponse<List<MapAttractionResponseDTO>> getAttractionsInArea(
+            @RequestParam(value = "minLat") double minLatitude,
+            @RequestParam(value = "minLng") double minLongitude,
+            @RequestParam(value = "maxLat") double maxLatitude,
+            @RequestParam(value = "maxLng") double maxLongitude,
+            @RequestParam(value = "contentTypeIds", required = false) List<Integer> contentTypeIds,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "size", defaultValue = "100") int size
+    ) {
+        return new CommonResponse<>(attractionMapService.getAttractionsInArea(minLatitude, minLongitude, maxLatitude, maxLongitude, contentTypeIds, sort, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/clusters")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "지도 축소 화면 여행지 묶음 조회",
+            description = "지도 level(1~14, 카카오맵 level)에 맞는 칸 단위로 영역 안의 여행지를 묶어 반환합니다. \n" +
+                    "각 묶음은 개수, 중심점, 가장 많은 콘텐츠 타입을 가집니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "ATTRACTION-009: 잘못된 지도 조회 범위입니다."),
+            @ApiResponse(responseCode = "503", description = "SEARCH-001: 색인을 준비 중입니다."),
+    })
+    public CommonResponse<List<AttractionClusterResponseDTO>> getAttractionClusters(
+            @RequestParam(value = "level") int level,
+            @RequestParam(value = "minLat") double minLatitude,
+            @RequestParam(value = "minLng") double minLongitude,
+            @RequestParam(value = "maxLat") double maxLatitude,
+            @RequestParam(value = "maxLng") double maxLongitude,
+            @RequestParam(value = "contentTypeIds", required = false) List<Integer> contentTypeIds
+    ) {
+        return new CommonResponse<>(attractionMapService.getAttractionClusters(level, minLatitude, minLongitude, maxLatitude, maxLongitude, contentTypeIds), HttpStatus.OK);
+    }
+
     @GetMapping("/{attractionId}")
     @PreAuthorize("permitAll()")
     @Operation(
@@ -80,6 +201,18 @@ public class AttractionController {
         return new CommonResponse<>(attractionService.getAttractionReviews(attractionId, page, size, user), HttpStatus.OK);
     }
 
+    //리뷰 커서 조회
+    @GetMapping(value = "/{attractionId}/reviews", params = "cursor")
+    @PreAuthorize("permitAll()")
+    public CommonResponse<CursorPageDTO<ReviewResponseDTO>> getAttractionReviewsByCursor(
+            @PathVariable int attractionId,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal JwtUserInfo user
+    ) {
+        return new CommonResponse<>(attractionService.getAttractionReviewsByCursor(attractionId, cursor, size, user), HttpStatus.OK);
+    }
+
     //리뷰 생성
     @PostMapping("/{attractionId}/reviews")
     public CommonResponse<ActionResponseDTO> addAttractionReview(
@@ -131,6 +264,17 @@ public class AttractionController {
         return new CommonResponse<>(attractionService.removeLikeFromAttractionReview(attractionId, reviewId, user.getUserId()), HttpStatus.OK);
     }
 
+    //리뷰 좋아요 상태 지정 (liked=false면 취소, 이미 같은 상태여도 현재 상태 반환)
+    @PutMapping("/{attractionId}/reviews/{reviewId}/like")
+    public CommonResponse<LikeStateDTO> setAttractionReviewLike(
+            @PathVariable int attractionId,
+            @PathVariable int reviewId,
+            @RequestParam(value = "liked", defaultValue = "true") boolean liked,
+            @AuthenticationPrincipal JwtUserInfo user
+    ){
+        return new CommonResponse<>(attractionService.setAttractionReviewLike(attractionId, reviewId, liked, user.getUserId()), HttpStatus.OK);
+    }
+
     //여행지 좋아요 추가
     @PostMapping("/{attractionId}/like")
     public CommonResponse<ActionResponseDTO> addLikeToAttraction(
@@ -148,4 +292,14 @@ public class AttractionController {
     ){
         return new CommonResponse<>(attractionService.removeLikeFromAttraction(attractionId, user.getUserId()), HttpStatus.OK);
     }
+
+    //여행지 좋아요 상태 지정 (liked=false면 취소, 이미 같은 상태여도 현재 상태 반환)
+    @PutMapping("/{attractionId}/like")
+    public CommonResponse<LikeStateDTO> setAttractionLike(
+            @PathVariable int attractionId,
+            @RequestParam(value = "liked", defaultValue = "true") boolean liked,
+            @AuthenticationPrincipal JwtUserInfo user
+    ){
+        return new CommonResponse<>(attractionService.setAttractionLike(attractionId, liked, user.getUserId()), HttpStatus.OK);
+    }
 }
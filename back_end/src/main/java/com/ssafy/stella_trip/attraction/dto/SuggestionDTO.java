@@ -0,0 +1,26 @@
+package com.ssafy.stella_trip.attraction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 자동완성 후보
+ * type은 ATTRACTION / TAG / SIDO / GUGUN, id는 각각 attractionId / tagId / sidoCode / gugunCode
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String type;
+    private int id;
+    private String text;
+    private Integer sidoCode;
+    private double score;
+    // 정규화된 검색 key (제목 전체 + 띄어쓰기 뒤 단어 시작 위치들)
+    private List<String> keys;
+}
@@ -0,0 +1,22 @@
+package com.ssafy.stella_trip.attraction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 축소 화면의 여행지 묶음
+ * key는 "level:위도 칸:경도 칸"으로 같은 level에서 화면을 옮겨도 같은 칸은 같은 key
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttractionClusterResponseDTO {
+    private String key;
+    private double latitude;
+    private double longitude;
+    private int count;
+    private int contentType;
+}
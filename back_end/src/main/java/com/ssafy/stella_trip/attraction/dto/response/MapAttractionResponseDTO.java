@@ -0,0 +1,27 @@
+package com.ssafy.stella_trip.attraction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 조회용 여행지 (리뷰, 좋아요 여부 없이 공간 색인 값만 사용)
+ * distance는 반경 조회일 때만 값이 있음 (m)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapAttractionResponseDTO {
+    private int attractionId;
+    private String name;
+    private String image;
+    private String address;
+    private int contentType;
+    private int likeCount;
+    private double rating;
+    private double latitude;
+    private double longitude;
+    private Double distance;
+}
@@ -0,0 +1,17 @@
+package com.ssafy.stella_trip.attraction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponseDTO {
+    private String type;
+    private int id;
+    private String text;
+    private Integer sidoCode;
+}
@@ -74,4 +74,12 @@ public class AttractionExceptionHandler {
         return new CommonResponse<>(new ErrorBody("ATTRACTION-008", "좋아요를 누르지 않은 여행지입니다."),
                 HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidMapAreaException.class)
+    public CommonResponse<ErrorBody> InvalidMapAreaException(
+            InvalidMapAreaException e, HttpServletRequest request) {
+        log.warn("ATTRACTION-009> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
+        return new CommonResponse<>(new ErrorBody("ATTRACTION-009", "잘못된 지도 조회 범위입니다."),
+                HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.stella_trip.attraction.exception;
+
+public class InvalidMapAreaException extends RuntimeException {
+    public InvalidMapAreaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,304 @@
+package com.ssafy.stella_trip.attraction.service;
+
+import com.ssafy.stella_trip.attraction.dto.AttractionDTO;
+import com.ssafy.stella_trip.attraction.dto.response.AttractionClusterResponseDTO;
+import com.ssafy.stella_trip.attraction.dto.response.MapAttractionResponseDTO;
+import com.ssafy.stella_trip.attraction.exception.InvalidMapAreaException;
+import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import com.ssafy.stella_trip.search.exception.SearchIndexNotReadyException;
+import com.ssafy.stella_trip.search.util.GeoClusterGrid;
+import com.ssafy.stella_trip.search.util.GeoGridIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 지도 화면용 여행지 조회 (반경 / 사각 영역 / 축소 화면 cluster)
+ * 전체 여행지 좌표를 메모리 grid 색인에 올려 두고 조회 때는 DB를 읽지 않음
+ * cluster는 지도 level별 grid 집계를 적재 시점에 미리 계산 (확대 level은 칸이 작아 요청 때 영역만 집계)
+ * 요청 때 영역을 훑는 조회(사각 영역, 확대 level cluster)는 영역이 max-area-cells 칸보다 넓으면 거절
+ * 여행지 데이터는 거의 바뀌지 않으므로 주기적으로 다시 적재 (좋아요 수 / 평점 순위도 적재 시점 기준)
+ */
+@Slf4j
+@Service
+public class AttractionMapService {
+
+    public static final String SORT_DISTANCE = "distance";
+    public static final String SORT_LIKE = "like";
+    public static final String SORT_RATING = "rating";
+
+    private final AttractionDAO attractionDAO;
+    private final double cellDegrees;
+    private final int maxRadiusMeters;
+    private final int maxSize;
+    private final long maxAreaCells;
+    private final double clusterBaseCellDegrees;
+    private final int clusterMinLevel;
+    private final int clusterMaxLevel;
+
+    private volatile GeoGridIndex<AttractionDTO> index = GeoGridIndex.empty();
+    // 지도 level → 미리 계산한 cluster (clusterMinLevel 이상만)
+    private volatile Map<Integer, GeoClusterGrid> clusterGrids = Map.of();
+    private volatile boolean ready = false;
+
+    public AttractionMapService(
+            AttractionDAO attractionDAO,
+            @Value("${attraction.geo-index.cell-degrees:0.05}") double cellDegrees,
+            @Value("${attraction.geo-index.max-radius-meters:20000}") int maxRadiusMeters,
+            @Value("${attraction.geo-index.max-size:200}") int maxSize,
+            @Value("${attraction.geo-index.max-area-cells:2500}") long maxAreaCells,
+            @Value("${attraction.cluster.base-cell-degrees:0.000125}") double clusterBaseCellDegrees,
+            @Value("${attraction.cluster.min-level:6}") int clusterMinLevel,
+            @Value("${attraction.cluster.max-level:14}") int clusterMaxLevel
+    ) {
+        this.attractionDAO = attractionDAO;
+        this.cellDegrees = cellDegrees;
+        this.maxRadiusMeters = maxRadiusMeters;
+        this.maxSize = maxSize;
+        this.maxAreaCells = maxAreaCells;
+        this.clusterBaseCellDegrees = clusterBaseCellDegrees;
+        this.clusterMinLevel = clusterMinLevel;
+        this.clusterMaxLevel = clusterMaxLevel;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${attraction.geo-index.reload-interval-ms:3600000}")
+    public void reload() {
+        try {
+            List<AttractionDTO> attractions = attractionDAO.getAttractionGeoSources();
+            Map<Integer, GeoClusterGrid> grids = new HashMap<>();
+            for (int level = clusterMinLevel; level <= clusterMaxLevel; level++) {
+                grids.put(level, buildClusterGrid(attractions, level));
+            }
+            index = GeoGridIndex.build(attractions, AttractionDTO::getLatitude, AttractionDTO::getLongitude, cellDegrees);
+            clusterGrids = grids;
+            ready = true;
+            log.info("여행지 공간 색인 적재 완료, 여행지 수: " + index.size());
+        } catch (DataAccessException e) {
+            // 실패 시 기존 색인 유지
+            log.warn("여행지 공간 색인 적재 실패, 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 중심점 반경 안의 여행지 조회
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radius 반경 (m)
+     * @param contentTypeIds 콘텐츠 타입 (null이나 빈 값이면 전체)
+     * @param sort distance / like / rating
+     * @param size 최대 개수
+     * @return 정렬된 여행지 (distance 포함)
+     */
+    public List<MapAttractionResponseDTO> getNearbyAttractions(
+            double latitude,
+            double longitude,
+            int radius,
+            List<Integer> contentTypeIds,
+            String sort,
+            int size
+    ) {
+        validateCoordinate(latitude, longitude);
+        if (radius <= 0 || radius > maxRadiusMeters) {
+            throw new InvalidMapAreaException("반경은 1m 이상 " + maxRadiusMeters + "m 이하여야 합니다. radius: " + radius);
+        }
+
+        List<GeoGridIndex.Hit<AttractionDTO>> hits = readyIndex()
+                .nearby(latitude, longitude, radius, contentTypeFilter(contentTypeIds));
+        Comparator<GeoGridIndex.Hit<AttractionDTO>> byDistance = Comparator.comparingDouble(GeoGridIndex.Hit::distanceMeters);
+        Comparator<GeoGridIndex.Hit<AttractionDTO>> order = switch (sortOf(sort, SORT_DISTANCE)) {
+            case SORT_LIKE -> Comparator.<GeoGridIndex.Hit<AttractionDTO>>comparingInt(hit -> hit.value().getLikeCount()).reversed().thenComparing(byDistance);
+            case SORT_RATING -> Comparator.<GeoGridIndex.Hit<AttractionDTO>>comparingDouble(hit -> hit.value().getRating()).reversed().thenComparing(byDistance);
+            default -> byDistance;
+        };
+
+        return topK(hits, order, limitOf(size)).stream()
+                .map(hit -> convertAttractionToResponseDTO(hit.value(), hit.distanceMeters()))
+                .toList();
+    }
+
+    /**
+     * 사각 영역(지도 화면) 안의 여행지 조회
+     * 영역은 색인 칸 기준 max-area-cells 이하만 허용 (넓은 화면은 cluster 사용)
+     * @param sort like / rating (distance는 영역 중심 기준)
+     * @return 정렬된 여행지
+     */
+    public List<MapAttractionResponseDTO> getAttractionsInArea(
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            List<Integer> contentTypeIds,
+            String sort,
+            int size
+    ) {
+        validateArea(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        validateAreaCells(minLatitude, minLongitude, maxLatitude, maxLongitude, cellDegrees);
+
+        List<AttractionDTO> attractions = readyIndex()
+                .within(minLatitude, minLongitude, maxLatitude, maxLongitude, contentTypeFilter(contentTypeIds));
+        double centerLatitude = (minLatitude + maxLatitude) / 2;
+        double centerLongitude = (minLongitude + maxLongitude) / 2;
+        Comparator<AttractionDTO> order = switch (sortOf(sort, SORT_LIKE)) {
+            case SORT_DISTANCE -> Comparator.comparingDouble(attraction -> GeoGridIndex.distanceMeters(
+                    centerLatitude, centerLongitude, attraction.getLatitude(), attraction.getLongitude()));
+            case SORT_RATING -> Comparator.comparingDouble(AttractionDTO::getRating).reversed();
+            default -> Comparator.comparingInt(AttractionDTO::getLikeCount).reversed();
+        };
+
+        return topK(attractions, order.thenComparingInt(AttractionDTO::getAttractionId), limitOf(size)).stream()
+                .map(attraction -> convertAttractionToResponseDTO(attraction, null))
+                .toList();
+    }
+
+    /**
+     * 지도 화면의 여행지 cluster 조회
+     * 칸 크기는 level이 1 오를 때마다 2배 (카카오맵 level과 같은 배율)
+     * 미리 계산하지 않는 확대 level은 영역이 그 level의 칸 기준 max-area-cells 이하만 허용
+     * @param level 지도 level (1이 가장 확대)
+     * @return 칸별 개수 / 중심점 / 가장 많은 콘텐츠 타입
+     */
+    public List<AttractionClusterResponseDTO> getAttractionClusters(
+            int level,
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            List<Integer> contentTypeIds
+    ) {
+        if (level < 1 || level > clusterMaxLevel) {
+            throw new InvalidMapAreaException("지도 level은 1 이상 " + clusterMaxLevel + " 이하여야 합니다. level: " + level);
+        }
+        validateArea(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+        GeoGridIndex<AttractionDTO> readyIndex = readyIndex();
+        GeoClusterGrid grid = clusterGrids.get(level);
+        if (grid == null) {
+            // 확대 level은 영역이 좁으므로 경계에 걸친 칸까지 포함하도록 넓혀서 바로 집계
+            double clusterCellDegrees = clusterCellDegrees(level);
+            validateAreaCells(minLatitude, minLongitude, maxLatitude, maxLongitude, clusterCellDegrees);
+            double fromLatitude = Math.floor(minLatitude / clusterCellDegrees) * clusterCellDegrees;
+            double fromLongitude = Math.floor(minLongitude / clusterCellDegrees) * clusterCellDegrees;
+            double toLatitude = (Math.floor(maxLatitude / clusterCellDegrees) + 1) * clusterCellDegrees;
+            double toLongitude = (Math.floor(maxLongitude / clusterCellDegrees) + 1) * clusterCellDegrees;
+            grid = buildClusterGrid(readyIndex.within(fromLatitude, fromLongitude, toLatitude, toLongitude, attraction -> true), level);
+        }
+
+        IntPredicate contentTypeFilter = contentTypeIds == null || contentTypeIds.isEmpty()
+                ? contentTypeId -> true
+                : new HashSet<>(contentTypeIds)::contains;
+        return grid.clusters(minLatitude, minLongitude, maxLatitude, maxLongitude, contentTypeFilter).stream()
+                .map(cluster -> convertClusterToResponseDTO(level, cluster))
+                .toList();
+    }
+
+    private GeoClusterGrid buildClusterGrid(List<AttractionDTO> attractions, int level) {
+        return GeoClusterGrid.build(
+                attractions,
+                AttractionDTO::getLatitude,
+                AttractionDTO::getLongitude,
+                AttractionDTO::getContentTypeId,
+                clusterCellDegrees(level)
+        );
+    }
+
+    private double clusterCellDegrees(int level) {
+        return clusterBaseCellDegrees * (1L << (level - 1));
+    }
+
+    private GeoGridIndex<AttractionDTO> readyIndex() {
+        if (!ready) {
+            throw new SearchIndexNotReadyException("여행지 공간 색인이 아직 적재되지 않았습니다.");
+        }
+        return index;
+    }
+
+    private static Predicate<AttractionDTO> contentTypeFilter(List<Integer> contentTypeIds) {
+        if (contentTypeIds == null || contentTypeIds.isEmpty()) {
+            return attraction -> true;
+        }
+        Set<Integer> types = new HashSet<>(contentTypeIds);
+        return attraction -> types.contains(attraction.getContentTypeId());
+    }
+
+    private static String sortOf(String sort, String defaultSort) {
+        if (sort == null || sort.isBlank()) {
+            return defaultSort;
+        }
+        return switch (sort) {
+            case SORT_DISTANCE, SORT_LIKE, SORT_RATING -> sort;
+            default -> throw new InvalidMapAreaException("지원하지 않는 정렬입니다. sort: " + sort);
+        };
+    }
+
+    // 전체를 정렬하지 않고 크기 k의 heap으로 상위 k개만 골라 정렬
+    private static <T> List<T> topK(List<T> values, Comparator<T> order, int k) {
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, order.reversed());
+        for (T value : values) {
+            heap.offer(value);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<T> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top;
+    }
+
+    private int limitOf(int size) {
+        return size < 1 ? maxSize : Math.min(size, maxSize);
+    }
+
+    private static void validateCoordinate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidMapAreaException("잘못된 좌표입니다. lat: " + latitude + ", lng: " + longitude);
+        }
+    }
+
+    private static void validateArea(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        validateCoordinate(minLatitude, minLongitude);
+        validateCoordinate(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new InvalidMapAreaException("최소 좌표가 최대 좌표보다 큽니다.");
+        }
+    }
+
+    // 영역이 걸치는 칸 수가 max-area-cells를 넘으면 예외 (요청 때 영역 안의 여행지를 모두 훑는 조회)
+    private void validateAreaCells(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, double areaCellDegrees) {
+        long latitudeCells = (long) Math.floor(maxLatitude / areaCellDegrees) - (long) Math.floor(minLatitude / areaCellDegrees) + 1;
+        long longitudeCells = (long) Math.floor(maxLongitude / areaCellDegrees) - (long) Math.floor(minLongitude / areaCellDegrees) + 1;
+        if (latitudeCells * longitudeCells > maxAreaCells) {
+            throw new InvalidMapAreaException("지도 영역이 너무 넓습니다. 영역을 줄이거나 더 축소된 level을 사용하세요.");
+        }
+    }
+
+    private AttractionClusterResponseDTO convertClusterToResponseDTO(int level, GeoClusterGrid.Cluster cluster) {
+        return AttractionClusterResponseDTO.builder()
+                .key(level + ":" + cluster.latitudeCell() + ":" + cluster.longitudeCell())
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .count(cluster.count())
+                .contentType(cluster.dominantCategory())
+                .build();
+    }
+
+    private MapAttractionResponseDTO convertAttractionToResponseDTO(AttractionDTO attraction, Double distance) {
+        return MapAttractionResponseDTO.builder()
+                .attractionId(attraction.getAttractionId())
+                .name(attraction.getTitle())
+                .image(attraction.getFirstImage1())
+                .address(attraction.getAddr1())
+                .contentType(attraction.getContentTypeId())
+                .likeCount(attraction.getLikeCount())
+                .rating(attraction.getRating())
+                .latitude(attraction.getLatitude())
+                .longitude(attraction.getLongitude())
+                .distance(distance)
+                .build();
+    }
+}
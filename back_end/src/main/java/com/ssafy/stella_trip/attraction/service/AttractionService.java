@@ -1,5 +1,6 @@
 package com.ssafy.stella_trip.attraction.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.ssafy.stella_trip.attraction.dto.AttractionDTO;
 import com.ssafy.stella_trip.attraction.dto.AttractionWithReviewsDTO;
 import com.ssafy.stella_trip.attraction.dto.ReviewDTO;
@@ -8,22 +9,45 @@ import com.ssafy.stella_trip.attraction.dto.request.ReviewRequestDTO;
 import com.ssafy.stella_trip.attraction.dto.response.AttractionResponseDTO;
 import com.ssafy.stella_trip.attraction.dto.response.ReviewResponseDTO;
 import com.ssafy.stella_trip.attraction.exception.*;
+import com.ssafy.stella_trip.common.dto.CountDTO;
+import com.ssafy.stella_trip.common.dto.CursorPageDTO;
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
 import com.ssafy.stella_trip.common.dto.PageDTO;
+import com.ssafy.stella_trip.common.util.CountCache;
+import com.ssafy.stella_trip.common.util.CursorCodec;
+import com.ssafy.stella_trip.common.util.CursorPaginationUtils;
 import com.ssafy.stella_trip.common.util.PaginationUtils;
+import com.ssafy.stella_trip.common.util.ResponseCache;
+import com.ssafy.stella_trip.util.LikeCounter;
+import com.ssafy.stella_trip.util.LikedSetCache;
+import com.ssafy.stella_trip.util.TopReviewCache;
 import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import com.ssafy.stella_trip.search.service.SearchService;
 import com.ssafy.stella_trip.security.dto.JwtUserInfo;
 import com.ssafy.stella_trip.user.dto.response.ActionResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.IntPredicate;
 
 @Service
 @RequiredArgsConstructor
 public class AttractionService {
 
+    private static final TypeReference<PageDTO<AttractionResponseDTO>> ATTRACTION_PAGE = new TypeReference<>() {};
+    private static final TypeReference<AttractionResponseDTO> ATTRACTION_DETAIL = new TypeReference<>() {};
+
     private final AttractionDAO attractionDAO;
+    private final CountCache countCache;
+    private final SearchService searchService;
+    private final SuggestService suggestService;
+    private final TopReviewCache topReviewCache;
+    private final LikeCounter likeCounter;
+    private final LikedSetCache likedSetCache;
+    private final ResponseCache responseCache;
 
     @Transactional
     public PageDTO<AttractionResponseDTO> getAttractionsByCondition(
@@ -35,30 +59,124 @@ public class AttractionService {
             int size,
             JwtUserInfo user
     ) {
-        int userId = user == null ? -1: user.getUserId();
+        if (user == null) {
+            // 로그인하지 않은 요청은 조건이 같으면 응답도 같으므로 공유 (gugunCode는 sidoCode가 있을 때만 조건)
+            return responseCache.get(
+                    ResponseCache.ATTRACTION_SEARCH,
+                    ATTRACTION_PAGE,
+                    () -> searchAttractions(sidoCode, gugunCode, contentTypeIds, keyword, page, size, -1),
+                    sidoCode, sidoCode == null ? null : gugunCode, contentTypeIds, keyword, page, size
+            );
+        }
+        return searchAttractions(sidoCode, gugunCode, contentTypeIds, keyword, page, size, user.getUserId());
+    }
+
+    private PageDTO<AttractionResponseDTO> searchAttractions(
+            Integer sidoCode,
+            Integer gugunCode,
+            List<Integer> contentTypeIds,
+            String keyword,
+            int page,
+            int size,
+            int userId
+    ) {
+        // 키워드는 검색 색인에서 id 목록으로 변환 (색인을 쓸 수 없으면 null → LIKE 검색)
+        List<Integer> attractionIds = searchService.findAttractionIds(keyword);
         return PaginationUtils.getPagedResult(
                 page,
                 size,
-                () -> attractionDAO.getAttractionCountByConditions(sidoCode, gugunCode, contentTypeIds, keyword),
-                (offset, pageSize) -> attractionDAO.getAttractionByConditions(
-                        userId,
+                countAttractionsByCondition(sidoCode, gugunCode, contentTypeIds, keyword, attractionIds),
+                (offset, pageSize) -> fillLikedAttractions(topReviewCache.fillTopReviews(attractionDAO.getAttractionByConditions(
                         sidoCode,
                         gugunCode,
                         contentTypeIds,
                         keyword,
+                        attractionIds,
                         offset,
                         pageSize
-                ),
+                ), 1), userId),
                 this::convertAttractionToResponseDTO
         );
     }
 
-    public AttractionResponseDTO getAttractionById(Integer attractionId, JwtUserInfo user) {
+    /**
+     * 커서(keyset) 방식 여행지 검색
+     * OFFSET 없이 attraction_id 이후부터 조회하므로 페이지 깊이와 상관없이 일정한 비용
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 문자열
+     * @param withTotal true면 전체 개수도 조회 (COUNT 쿼리 추가)
+     * @return CursorPageDTO
+     */
+    public CursorPageDTO<AttractionResponseDTO> getAttractionsByCursor(
+            Integer sidoCode,
+            Integer gugunCode,
+            List<Integer> contentTypeIds,
+            String keyword,
+            String cursor,
+            int size,
+            boolean withTotal,
+            JwtUserInfo user
+    ) {
         int userId = user == null ? -1 : user.getUserId();
+        List<Integer> attractionIds = searchService.findAttractionIds(keyword);
+        return CursorPaginationUtils.getCursorPagedResult(
+                cursor,
+                size,
+                CursorCodec.ID,
+                (lastAttractionId, limit) -> fillLikedAttractions(topReviewCache.fillTopReviews(attractionDAO.getAttractionByConditionsAfter(
+                        sidoCode,
+                        gugunCode,
+                        contentTypeIds,
+                        keyword,
+                        attractionIds,
+                        lastAttractionId == null ? 0 : lastAttractionId,
+                        limit
+                ), 1), userId),
+                AttractionWithReviewsDTO::getAttractionId,
+                this::convertAttractionToResponseDTO,
+                withTotal ? () -> countAttractionsByCondition(sidoCode, gugunCode, contentTypeIds, keyword, attractionIds) : null
+        );
+    }
+
+    // 목록 쿼리는 사용자와 상관없이 조회하고 좋아요 여부는 사용자별 좋아요 id 캐시로 채움
+    private List<AttractionWithReviewsDTO> fillLikedAttractions(List<AttractionWithReviewsDTO> attractions, int userId) {
+        IntPredicate liked = likedSetCache.likedBy(LikeCounter.Target.ATTRACTION, userId);
+        attractions.forEach(attraction -> attraction.setLiked(liked.test(attraction.getAttractionId())));
+        return attractions;
+    }
+
+    private List<ReviewWithUserNameDTO> fillLikedReviews(List<ReviewWithUserNameDTO> reviews, int userId) {
+        IntPredicate liked = likedSetCache.likedBy(LikeCounter.Target.REVIEW, userId);
+        reviews.forEach(review -> review.setLiked(liked.test(review.getReviewId())));
+        return reviews;
+    }
+
+    // 여행지 데이터는 거의 바뀌지 않으므로 무효화 없이 TTL로만 갱신
+    private CountDTO countAttractionsByCondition(Integer sidoCode, Integer gugunCode, List<Integer> contentTypeIds, String keyword, List<Integer> attractionIds) {
+        return countCache.getOrCount(
+                CountCache.ATTRACTION_SEARCH,
+                () -> attractionDAO.getAttractionCountByConditions(sidoCode, gugunCode, contentTypeIds, keyword, attractionIds),
+                sidoCode, gugunCode, contentTypeIds, keyword
+        );
+    }
+
+    public AttractionResponseDTO getAttractionById(Integer attractionId, JwtUserInfo user) {
+        if (user == null) {
+            return responseCache.get(
+                    ResponseCache.ATTRACTION_DETAIL,
+                    ATTRACTION_DETAIL,
+                    () -> findAttraction(attractionId, -1),
+                    attractionId
+            );
+        }
+        return findAttraction(attractionId, user.getUserId());
+    }
+
+    private AttractionResponseDTO findAttraction(Integer attractionId, int userId) {
         AttractionWithReviewsDTO attraction = attractionDAO.getAttractionByContentId(userId, attractionId);
         if (attraction == null) {
             throw new AttractionNotFoundException("해당 id의 여행지를 찾을 수 없습니다.");
         }
+        topReviewCache.fillTopReviews(List.of(attraction), TopReviewCache.MAX_TOP_REVIEWS);
         return convertAttractionToResponseDTO(attraction);
     }
 
@@ -70,16 +188,45 @@ public class AttractionService {
      * @return PageDTO
      */
     public PageDTO<ReviewResponseDTO> getAttractionReviews(int attractionId, int page, int size, JwtUserInfo user){
-        Integer userId = user == null ? -1 : user.getUserId();
+        int userId = user == null ? -1 : user.getUserId();
         return PaginationUtils.getPagedResult(
                 page,
                 size,
-                () -> attractionDAO.countReviewsByAttractionId(attractionId),
-                (offset, pageSize) -> attractionDAO.getReviewsByAttractionId(attractionId, offset, pageSize, userId),
+                countCache.getOrCount(
+                        CountCache.ATTRACTION_REVIEW,
+                        () -> attractionDAO.countReviewsByAttractionId(attractionId),
+                        attractionId
+                ),
+                (offset, pageSize) -> fillLikedReviews(attractionDAO.getReviewsByAttractionId(attractionId, offset, pageSize), userId),
                 this::convertReviewWithUserNameToResponseDTO
         );
     }
 
+    /**
+     * 여행지의 리뷰 목록 커서 조회 (최신순)
+     * @param attractionId attractionId
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 문자열
+     * @param size 한 페이지 크기
+     * @return CursorPageDTO
+     */
+    public CursorPageDTO<ReviewResponseDTO> getAttractionReviewsByCursor(int attractionId, String cursor, int size, JwtUserInfo user) {
+        int userId = user == null ? -1 : user.getUserId();
+        return CursorPaginationUtils.getCursorPagedResult(
+                cursor,
+                size,
+                CursorCodec.TIME_ID,
+                (last, limit) -> fillLikedReviews(attractionDAO.getReviewsByAttractionIdAfter(
+                        attractionId,
+                        last == null ? null : last.time(),
+                        last == null ? 0 : last.id(),
+                        limit
+                ), userId),
+                review -> new CursorCodec.TimeIdCursor(review.getCreatedAt(), review.getReviewId()),
+                this::convertReviewWithUserNameToResponseDTO,
+                null
+        );
+    }
+
     /**
      * 여행지에 리뷰 추가
      * @param attractionId attractionId
@@ -97,7 +244,10 @@ public class AttractionService {
                 .rating(reviewRequestDTO.getRating())
                 .build();
 
-        return new ActionResponseDTO(attractionDAO.insertReview(reviewDTO) > 0);
+        boolean success = attractionDAO.insertReview(reviewDTO) > 0;
+        countCache.invalidate(CountCache.ATTRACTION_REVIEW, attractionId);
+        invalidateTopReviews(attractionId);
+        return new ActionResponseDTO(success);
     }
 
     /**
@@ -122,7 +272,9 @@ public class AttractionService {
                 .rating(reviewRequestDTO.getRating())
                 .build();
 
-        return new ActionResponseDTO(attractionDAO.updateReview(reviewDTO) > 0);
+        boolean success = attractionDAO.updateReview(reviewDTO) > 0;
+        invalidateTopReviews(attractionId);
+        return new ActionResponseDTO(success);
     }
 
     /**
@@ -136,7 +288,10 @@ public class AttractionService {
     public ActionResponseDTO deleteAttractionReview(int attractionId, int reviewId, int userId) {
         validateReview(attractionId, reviewId, userId);
 
-        return new ActionResponseDTO(attractionDAO.deleteReviewByReviewId(reviewId) > 0);
+        boolean success = attractionDAO.deleteReviewByReviewId(reviewId) > 0;
+        countCache.invalidate(CountCache.ATTRACTION_REVIEW, attractionId);
+        invalidateTopReviews(attractionId);
+        return new ActionResponseDTO(success);
     }
 
     /**
@@ -148,27 +303,13 @@ public class AttractionService {
      */
     @Transactional
     public ActionResponseDTO addLikeToAttractionReview(int attractionId, int reviewId, int userId) {
-        ReviewDTO existingReview = attractionDAO.getReviewByReviewId(reviewId);
-
-        if (existingReview == null) {
-            throw new ReviewNotFoundException("해당 id의 리뷰를 찾을 수 없습니다.");
-        }
-
-        if (existingReview.getAttractionId() != attractionId) {
-            throw new ReviewNotMatchToAttractionException("해당 리뷰의 id와 여행지 id가 일치하지 않습니다.");
-        }
-
-        if (attractionDAO.findLikedReview(userId, reviewId) != null) {
+        if (insertReviewLike(userId, attractionId, reviewId) == 0) {
+            validateReviewOfAttraction(attractionId, reviewId);
             throw new ReviewAlreadyLikedException("이미 좋아요를 누른 리뷰입니다.");
         }
-
-        int insertResult = attractionDAO.insertLikedReview(userId, attractionId, reviewId);
-
-        if (insertResult > 0) {
-            attractionDAO.increaseReviewLikeCount(reviewId);
-        }
-
-        return new ActionResponseDTO(insertResult > 0);
+        likeCounter.add(LikeCounter.Target.REVIEW, reviewId, 1);
+        likedSetCache.invalidate(LikeCounter.Target.REVIEW, userId);
+        return new ActionResponseDTO(true);
     }
 
     /**
@@ -180,27 +321,40 @@ public class AttractionService {
      */
     @Transactional
     public ActionResponseDTO removeLikeFromAttractionReview(int attractionId, int reviewId, int userId) {
-        ReviewDTO existingReview = attractionDAO.getReviewByReviewId(reviewId);
-
-        if (existingReview == null) {
-            throw new ReviewNotFoundException("해당 id의 리뷰를 찾을 수 없습니다.");
-        }
-
-        if (existingReview.getAttractionId() != attractionId) {
-            throw new ReviewNotMatchToAttractionException("해당 리뷰의 id와 여행지 id가 일치하지 않습니다.");
-        }
-
-        if (attractionDAO.findLikedReview(userId, reviewId) == null) {
+        if (attractionDAO.deleteLikedReview(userId, attractionId, reviewId) == 0) {
+            validateReviewOfAttraction(attractionId, reviewId);
             throw new ReviewNotLikedException("좋아요를 누르지 않은 리뷰입니다.");
         }
+        likeCounter.add(LikeCounter.Target.REVIEW, reviewId, -1);
+        likedSetCache.invalidate(LikeCounter.Target.REVIEW, userId);
+        return new ActionResponseDTO(true);
+    }
 
-        int deleteResult = attractionDAO.deleteLikedReview(userId, attractionId, reviewId);
-
-        if (deleteResult > 0) {
-            attractionDAO.decreaseReviewLikeCount(reviewId);
+    /**
+     * 리뷰 좋아요 상태 지정 (이미 같은 상태면 아무것도 바꾸지 않음)
+     * 추가 / 삭제 결과 행 수로 실제 변경 여부를 판단하므로 중복 요청이 동시에 와도 한 번만 반영됨
+     * @param attractionId attractionId
+     * @param reviewId reviewId
+     * @param liked true면 좋아요, false면 취소
+     * @param userId userId
+     * @return 요청 후 좋아요 여부와 좋아요 개수
+     */
+    @Transactional
+    public LikeStateDTO setAttractionReviewLike(int attractionId, int reviewId, boolean liked, int userId) {
+        int changed = liked
+                ? insertReviewLike(userId, attractionId, reviewId)
+                : attractionDAO.deleteLikedReview(userId, attractionId, reviewId);
+        int delta = changed > 0 ? (liked ? 1 : -1) : 0;
+        if (delta != 0) {
+            likeCounter.add(LikeCounter.Target.REVIEW, reviewId, delta);
+            likedSetCache.invalidate(LikeCounter.Target.REVIEW, userId);
         }
 
-        return new ActionResponseDTO(deleteResult > 0);
+        LikeStateDTO state = attractionDAO.getReviewLikeState(userId, attractionId, reviewId);
+        if (state == null) {
+            validateReviewOfAttraction(attractionId, reviewId);
+        }
+        return likeCounter.resolve(LikeCounter.Target.REVIEW, reviewId, state, delta);
     }
 
     /**
@@ -211,23 +365,16 @@ public class AttractionService {
      */
     @Transactional
     public ActionResponseDTO addLikeToAttraction(int attractionId, int userId) {
-        AttractionDTO existingAttraction = attractionDAO.getAttractionById(attractionId);
-
-        if(existingAttraction == null) {
-            throw new AttractionNotFoundException("해당 id의 여행지를 찾을 수 없습니다.");
-        }
-
-        if (attractionDAO.findLikedAttraction(attractionId, userId) != null) {
+        if (insertAttractionLike(attractionId, userId) == 0) {
+            if (attractionDAO.getAttractionLikeState(attractionId, userId) == null) {
+                throw new AttractionNotFoundException("해당 id의 여행지를 찾을 수 없습니다.");
+            }
             throw new AttractionAlreadyLikedException("이미 좋아요를 누른 여행지입니다.");
         }
-
-        int insertResult = attractionDAO.insertLikedAttraction(attractionId, userId);
-
-        if(insertResult > 0) {
-            attractionDAO.increaseAttractionLikeCount(attractionId);
-        }
-
-        return new ActionResponseDTO(insertResult > 0);
+        likeCounter.add(LikeCounter.Target.ATTRACTION, attractionId, 1);
+        likedSetCache.invalidate(LikeCounter.Target.ATTRACTION, userId);
+        suggestService.onAttractionLikeChanged(attractionId, 1);
+        return new ActionResponseDTO(true);
     }
 
     /**
@@ -238,23 +385,43 @@ public class AttractionService {
      */
     @Transactional
     public ActionResponseDTO removeLikeFromAttraction(int attractionId, int userId) {
-        AttractionDTO existingAttraction = attractionDAO.getAttractionById(attractionId);
-
-        if(existingAttraction == null) {
-            throw new AttractionNotFoundException("해당 id의 여행지를 찾을 수 없습니다.");
-        }
-
-        if (attractionDAO.findLikedAttraction(attractionId, userId) == null) {
+        if (attractionDAO.deleteLikedAttraction(attractionId, userId) == 0) {
+            if (attractionDAO.getAttractionLikeState(attractionId, userId) == null) {
+                throw new AttractionNotFoundException("해당 id의 여행지를 찾을 수 없습니다.");
+            }
             throw new AttractionNotLikedException("좋아요를 누르지 않은 여행지입니다.");
         }
+        likeCounter.add(LikeCounter.Target.ATTRACTION, attractionId, -1);
+        likedSetCache.invalidate(LikeCounter.Target.ATTRACTION, userId);
+        suggestService.onAttractionLikeChanged(attractionId, -1);
+        return new ActionResponseDTO(true);
+    }
 
-        int deleteResult = attractionDAO.deleteLikedAttraction(attractionId, userId);
-
-        if(deleteResult > 0) {
-            attractionDAO.decreaseAttractionLikeCount(attractionId);
+    /**
+     * 여행지 좋아요 상태 지정 (이미 같은 상태면 아무것도 바꾸지 않음)
+     * 추가 / 삭제 결과 행 수로 실제 변경 여부를 판단하므로 중복 요청이 동시에 와도 한 번만 반영됨
+     * @param attractionId attractionId
+     * @param liked true면 좋아요, false면 취소
+     * @param userId userId
+     * @return 요청 후 좋아요 여부와 좋아요 개수
+     */
+    @Transactional
+    public LikeStateDTO setAttractionLike(int attractionId, boolean liked, int userId) {
+        int changed = liked
+                ? insertAttractionLike(attractionId, userId)
+                : attractionDAO.deleteLikedAttraction(attractionId, userId);
+        int delta = changed > 0 ? (liked ? 1 : -1) : 0;
+        if (delta != 0) {
+            likeCounter.add(LikeCounter.Target.ATTRACTION, attractionId, delta);
+            likedSetCache.invalidate(LikeCounter.Target.ATTRACTION, userId);
+            suggestService.onAttractionLikeChanged(attractionId, delta);
         }
 
-        return new ActionResponseDTO(deleteResult > 0);
+        LikeStateDTO state = attractionDAO.getAttractionLikeState(attractionId, userId);
+        if (state == null) {
+            throw new AttractionNotFoundException("해당 id의 여행지를 찾을 수 없습니다.");
+        }
+        return likeCounter.resolve(LikeCounter.Target.ATTRACTION, attractionId, state, delta);
     }
 
 
@@ -272,7 +439,7 @@ public class AttractionService {
                 .content(review.getContent())
                 .rating(review.getRating())
                 .visitDate(review.getVisitDate())
-                .likeCount(review.getLikeCount())
+                .likeCount(likeCounter.adjust(LikeCounter.Target.REVIEW, review.getReviewId(), review.getLikeCount()))
                 .createdAt(review.getCreatedAt())
                 .isLiked(review.isLiked())
                 .build();
@@ -299,6 +466,54 @@ public class AttractionService {
         }
     }
 
+    // 목록 / 상세 응답에 상위 리뷰가 포함되므로 응답 캐시도 함께 무효화
+    private void invalidateTopReviews(int attractionId) {
+        topReviewCache.invalidate(attractionId);
+        responseCache.invalidate(ResponseCache.ATTRACTION_SEARCH);
+        responseCache.invalidate(ResponseCache.ATTRACTION_DETAIL, attractionId);
+    }
+
+    /**
+     * 리뷰 좋아요 추가
+     * @return 추가된 행 수 (이미 좋아요했거나 해당 여행지의 리뷰가 아니면 0, 같은 사용자의 동시 요청으로 중복 키 오류가 나도 0)
+     */
+    private int insertReviewLike(int userId, int attractionId, int reviewId) {
+        try {
+            return attractionDAO.insertLikedReview(userId, attractionId, reviewId);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 관광지 좋아요 추가
+     * @return 추가된 행 수 (이미 좋아요했거나 관광지가 없으면 0, 같은 사용자의 동시 요청으로 중복 키 오류가 나도 0)
+     */
+    private int insertAttractionLike(int attractionId, int userId) {
+        try {
+            return attractionDAO.insertLikedAttraction(attractionId, userId);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 리뷰가 없거나 다른 여행지의 리뷰면 예외
+     * (좋아요 추가 / 삭제가 0행일 때 원인 확인용)
+     * @param attractionId attractionId
+     * @param reviewId reviewId
+     */
+    private void validateReviewOfAttraction(int attractionId, int reviewId) {
+        ReviewDTO existingReview = attractionDAO.getReviewByReviewId(reviewId);
+        if (existingReview == null) {
+            throw new ReviewNotFoundException("해당 id의 리뷰를 찾을 수 없습니다.");
+        }
+
+        if (existingReview.getAttractionId() != attractionId) {
+            throw new ReviewNotMatchToAttractionException("해당 리뷰의 id와 여행지 id가 일치하지 않습니다.");
+        }
+    }
+
     /**
      * AttractionDTO를 AttractionResponseDTO로 변환
      * @param attraction attractionDTO
@@ -311,7 +526,7 @@ public class AttractionService {
                 .image(attraction.getFirstImage1())
                 .address(attraction.getAddr1())
                 .contentType(attraction.getContentTypeId())
-                .likeCount(attraction.getLikeCount())
+                .likeCount(likeCounter.adjust(LikeCounter.Target.ATTRACTION, attraction.getAttractionId(), attraction.getLikeCount()))
                 .rating(attraction.getRating())
                 .latitude(attraction.getLatitude())
                 .longitude(attraction.getLongitude())
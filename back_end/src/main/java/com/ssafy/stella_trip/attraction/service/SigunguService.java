@@ -5,32 +5,30 @@ import com.ssafy.stella_trip.attraction.dto.SigunguDTO;
 import com.ssafy.stella_trip.attraction.dto.response.GugunResponseDTO;
 import com.ssafy.stella_trip.attraction.dto.response.SidoResponseDTO;
 import com.ssafy.stella_trip.attraction.dto.response.SigunguResponseDTO;
+import com.ssafy.stella_trip.common.util.NearCache;
 import com.ssafy.stella_trip.dao.sigungu.SigunguDAO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class SigunguService {
 
     private final SigunguDAO sigunguDAO;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final NearCache nearCache;
 
     public SigunguResponseDTO getSigungu() {
+        // 시군구는 거의 바뀌지 않으므로 Redis에 만료 없이 저장
+        return nearCache.get("sigungu", SigunguResponseDTO.class, this::loadSigungu, 0, TimeUnit.MILLISECONDS);
+    }
 
-        if (redisTemplate.hasKey("sigungu")) {
-            Object cachedValue = redisTemplate.opsForValue().get("sigungu");
-            if (cachedValue instanceof SigunguResponseDTO) {
-                return (SigunguResponseDTO) cachedValue;
-            }
-        }
-
+    private SigunguResponseDTO loadSigungu() {
         List<SigunguDTO> sigunguList = sigunguDAO.getSigunguList();
         Map<Integer, SidoResponseDTO> sidoMap = new HashMap<>();
         sigunguList.forEach(sigunguDTO -> {
@@ -40,10 +38,7 @@ public class SigunguService {
             SidoResponseDTO sidoResponseDTO = sidoMap.get(sigunguDTO.getSidoCode());
             sidoResponseDTO.getGugunList().add(new GugunResponseDTO(sigunguDTO.getSidoCode(), sigunguDTO.getGugunCode(), sigunguDTO.getGugunName()));
         });
-        SigunguResponseDTO sigunguResponseDTO = new SigunguResponseDTO(new ArrayList<>(sidoMap.values()));
-        redisTemplate.opsForValue().set("sigungu", sigunguResponseDTO);
-
-        return sigunguResponseDTO;
+        return new SigunguResponseDTO(new ArrayList<>(sidoMap.values()));
     }
 
 }
@@ -0,0 +1,235 @@
+package com.ssafy.stella_trip.attraction.service;
+
+import com.ssafy.stella_trip.attraction.dto.AttractionDTO;
+import com.ssafy.stella_trip.attraction.dto.SigunguDTO;
+import com.ssafy.stella_trip.attraction.dto.SuggestionDTO;
+import com.ssafy.stella_trip.attraction.dto.response.SuggestionResponseDTO;
+import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import com.ssafy.stella_trip.dao.plan.PlanDAO;
+import com.ssafy.stella_trip.dao.sigungu.SigunguDAO;
+import com.ssafy.stella_trip.plan.dto.TagDTO;
+import com.ssafy.stella_trip.search.util.NGramIndex;
+import com.ssafy.stella_trip.search.util.PrefixTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성 (여행지 제목, 태그, 시도 / 구군 이름)
+ * 조회는 메모리의 prefix trie만 사용하고 DB는 주기적인 적재 / 갱신 때만 읽음
+ * 좋아요 변경은 차이만 모아 두었다가 짧은 주기로 trie를 다시 만들어 반영
+ */
+@Slf4j
+@Service
+public class SuggestService {
+
+    private static final int DEFAULT_SIZE = 10;
+
+    private final AttractionDAO attractionDAO;
+    private final PlanDAO planDAO;
+    private final SigunguDAO sigunguDAO;
+    private final int topK;
+
+    private volatile PrefixTrie<SuggestionDTO> trie = PrefixTrie.empty();
+    // 마지막으로 DB에서 읽은 원본 (trie 재생성은 DB 없이 이 값과 변경분으로 수행)
+    private volatile List<AttractionDTO> attractions = List.of();
+    private volatile List<TagDTO> tags = List.of();
+    private volatile List<SigunguDTO> sigungus = List.of();
+    // attractionId → 마지막 적재 이후 좋아요 수 변화량
+    private final ConcurrentHashMap<Integer, Integer> likeDeltas = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile boolean tagsChanged = false;
+
+    public SuggestService(
+            AttractionDAO attractionDAO,
+            PlanDAO planDAO,
+            SigunguDAO sigunguDAO,
+            @Value("${suggest.top-k:20}") int topK
+    ) {
+        this.attractionDAO = attractionDAO;
+        this.planDAO = planDAO;
+        this.sigunguDAO = sigunguDAO;
+        this.topK = topK;
+    }
+
+    /**
+     * 자동완성 조회
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 개수
+     * @return 점수(좋아요, 평점) 순 후보
+     */
+    public List<SuggestionResponseDTO> suggest(String prefix, int size) {
+        String query = NGramIndex.normalize(prefix).stripLeading();
+        int limit = size < 1 ? DEFAULT_SIZE : Math.min(size, topK);
+        return trie.search(query, limit).stream()
+                .map(this::convertSuggestionToResponseDTO)
+                .toList();
+    }
+
+    /**
+     * 여행지 좋아요 수 변경 반영 (다음 갱신 주기에 순위에 반영)
+     * transaction 안이라면 commit 이후에 기록 (rollback된 좋아요는 반영되지 않도록)
+     * @param attractionId attractionId
+     * @param delta 변화량
+     */
+    public void onAttractionLikeChanged(int attractionId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mergeLikeDelta(attractionId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mergeLikeDelta(attractionId, delta);
+            }
+        });
+    }
+
+    private void mergeLikeDelta(int attractionId, int delta) {
+        likeDeltas.merge(attractionId, delta, Integer::sum);
+        dirty.set(true);
+    }
+
+    /**
+     * 새 태그가 생겼을 수 있을 때 호출 (다음 갱신 주기에 태그 목록만 다시 읽음)
+     */
+    public void onTagsChanged() {
+        tagsChanged = true;
+        dirty.set(true);
+    }
+
+    /**
+     * 전체 원본을 DB에서 다시 읽어 trie 생성
+     * 태그 사용 수는 TagCountScheduler가 주기적으로 다시 계산하므로 같은 주기로 맞춰 읽음
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${suggest.reload-interval-ms:3600000}")
+    public synchronized void reload() {
+        try {
+            // 적재 중 들어온 변화량은 DB 값에 이미 포함되었을 수 있으나, 다음 적재 때 바로잡힘
+            likeDeltas.clear();
+            attractions = attractionDAO.getAttractionSuggestSources();
+            tags = planDAO.getAllTags();
+            sigungus = sigunguDAO.getSigunguList();
+            tagsChanged = false;
+            dirty.set(false);
+            rebuild();
+            log.info("자동완성 색인 적재 완료, 후보 수: " + trie.size());
+        } catch (DataAccessException e) {
+            log.warn("자동완성 색인 적재 실패, 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분이 있으면 trie 재생성
+     */
+    @Scheduled(fixedDelayString = "${suggest.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            if (tagsChanged) {
+                tagsChanged = false;
+                tags = planDAO.getAllTags();
+            }
+            rebuild();
+        } catch (DataAccessException e) {
+            tagsChanged = true;
+            dirty.set(true);
+            log.warn("자동완성 태그 갱신 실패, 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        // 지역 점수는 해당 지역 여행지의 좋아요 합
+        Map<Integer, Double> sidoScores = new HashMap<>();
+        Map<String, Double> gugunScores = new HashMap<>();
+
+        for (AttractionDTO attraction : attractions) {
+            int likeCount = attraction.getLikeCount() + likeDeltas.getOrDefault(attraction.getAttractionId(), 0);
+            suggestions.add(SuggestionDTO.builder()
+                    .type("ATTRACTION")
+                    .id(attraction.getAttractionId())
+                    .text(attraction.getTitle())
+                    .score(likeCount + attraction.getRating())
+                    .keys(wordKeys(attraction.getTitle()))
+                    .build());
+            sidoScores.merge(attraction.getSidoCode(), (double) likeCount, Double::sum);
+            gugunScores.merge(attraction.getSidoCode() + ":" + attraction.getGugunCode(), (double) likeCount, Double::sum);
+        }
+
+        for (TagDTO tag : tags) {
+            suggestions.add(SuggestionDTO.builder()
+                    .type("TAG")
+                    .id(tag.getTagId())
+                    .text(tag.getName())
+                    .score(tag.getCount())
+                    .keys(wordKeys(tag.getName()))
+                    .build());
+        }
+
+        Set<Integer> addedSido = new HashSet<>();
+        for (SigunguDTO sigungu : sigungus) {
+            if (addedSido.add(sigungu.getSidoCode())) {
+                suggestions.add(SuggestionDTO.builder()
+                        .type("SIDO")
+                        .id(sigungu.getSidoCode())
+                        .text(sigungu.getSidoName())
+                        .sidoCode(sigungu.getSidoCode())
+                        .score(sidoScores.getOrDefault(sigungu.getSidoCode(), 0.0))
+                        .keys(wordKeys(sigungu.getSidoName()))
+                        .build());
+            }
+            // "강남구"와 "서울특별시 강남구" 모두로 찾을 수 있도록
+            List<String> keys = new ArrayList<>(wordKeys(sigungu.getGugunName()));
+            keys.add(NGramIndex.normalize(sigungu.getSidoName() + " " + sigungu.getGugunName()));
+            suggestions.add(SuggestionDTO.builder()
+                    .type("GUGUN")
+                    .id(sigungu.getGugunCode())
+                    .text(sigungu.getSidoName() + " " + sigungu.getGugunName())
+                    .sidoCode(sigungu.getSidoCode())
+                    .score(gugunScores.getOrDefault(sigungu.getSidoCode() + ":" + sigungu.getGugunCode(), 0.0))
+                    .keys(keys)
+                    .build());
+        }
+
+        trie = PrefixTrie.build(suggestions, SuggestionDTO::getKeys, SuggestionDTO::getScore, topK);
+    }
+
+    /**
+     * 문장 전체와 각 단어 시작 위치부터의 부분 문자열을 key로 사용
+     * ex) "해운대 해수욕장" → "해운대 해수욕장", "해수욕장"
+     */
+    private static List<String> wordKeys(String text) {
+        String normalized = NGramIndex.normalize(text).strip();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (Character.isWhitespace(normalized.charAt(i - 1)) && !Character.isWhitespace(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private SuggestionResponseDTO convertSuggestionToResponseDTO(SuggestionDTO suggestion) {
+        return SuggestionResponseDTO.builder()
+                .type(suggestion.getType())
+                .id(suggestion.getId())
+                .text(suggestion.getText())
+                .sidoCode(suggestion.getSidoCode())
+                .build();
+    }
+}
@@ -1,6 +1,6 @@
 package com.ssafy.stella_trip.chat.interceptor;
 
-import com.ssafy.stella_trip.security.dto.JwtUserInfo;
+import com.ssafy.stella_trip.security.dto.VerifiedTokenDTO;
 import com.ssafy.stella_trip.security.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +11,6 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-
-import java.util.List;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -48,19 +45,13 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
     }
 
     private void setAuthenticationFromToken(StompHeaderAccessor accessor, String token) {
-        if (jwtProvider.validateToken(token)) {
-            int userId = jwtProvider.getUserIdFromToken(token);
-            String name = jwtProvider.getUserNameFromToken(token);
-            String email = jwtProvider.getEmailFromToken(token);
-            List<String> roles = jwtProvider.getRolesFromToken(token);
-            List<SimpleGrantedAuthority> authorities = roles.stream()
-                    .map(SimpleGrantedAuthority::new).toList();
-
+        VerifiedTokenDTO verified = jwtProvider.resolveToken(token);
+        if (verified != null) {
             UsernamePasswordAuthenticationToken auth =
                     new UsernamePasswordAuthenticationToken(
-                            new JwtUserInfo(userId, name, email),
+                            verified.getUserInfo(),
                             null,
-                            authorities);
+                            verified.getAuthorities());
             accessor.setUser(auth);
         }
     }
@@ -0,0 +1,19 @@
+package com.ssafy.stella_trip.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 페이지 응답의 전체 개수
+ * estimated가 true면 캐시된 값이라 최근 변경이 반영되지 않았을 수 있음
+ */
+@Getter
+@AllArgsConstructor
+public class CountDTO {
+    private final int count;
+    private final boolean estimated;
+
+    public static CountDTO exact(int count) {
+        return new CountDTO(count, false);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.stella_trip.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private boolean hasNext;
+    private String nextCursor;
+    private int size;
+    // 요청한 경우에만 채워짐 (미요청 시 null)
+    private Integer totalElements;
+    // true면 캐시된 전체 개수 (최근 변경이 반영되지 않았을 수 있음)
+    private boolean totalEstimated;
+}
@@ -0,0 +1,23 @@
+package com.ssafy.stella_trip.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 저장된 좋아요 수와 liked_* 테이블 기준 좋아요 수 비교 (LikeCounter 재계산용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeCountCheckDTO {
+    private int id;
+    private int likeCount;
+    private int actualCount;
+
+    public boolean isMismatched() {
+        return likeCount != actualCount;
+    }
+}
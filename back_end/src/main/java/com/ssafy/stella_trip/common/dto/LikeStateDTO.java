@@ -0,0 +1,18 @@
+package com.ssafy.stella_trip.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 좋아요 / 취소 후의 상태 (plan, 여행지, 리뷰 공통)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStateDTO {
+    private boolean liked;
+    private int likeCount;
+}
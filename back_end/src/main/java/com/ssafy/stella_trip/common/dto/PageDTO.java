@@ -16,6 +16,8 @@ public class PageDTO<T> {
     private boolean hasNext;
     private int totalPages;
     private int totalElements;
+    // true면 캐시된 전체 개수 (최근 변경이 반영되지 않았을 수 있음)
+    private boolean totalEstimated;
     private int page;
     private int size;
     private boolean isFirst;
@@ -32,4 +32,11 @@ public class CommonExceptionHandler {
         return new CommonResponse<>(new ErrorBody("COMMON-002", "권한이 없습니다."),
                 HttpStatus.FORBIDDEN);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public CommonResponse<ErrorBody> invalidCursorException(InvalidCursorException e, HttpServletRequest request) {
+        log.warn("COMMON-003> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
+        return new CommonResponse<>(new ErrorBody("COMMON-003", "잘못된 커서입니다."),
+                HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,7 @@
+package com.ssafy.stella_trip.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
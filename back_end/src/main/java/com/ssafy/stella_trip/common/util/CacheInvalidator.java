@@ -0,0 +1,157 @@
+package com.ssafy.stella_trip.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 서버 메모리 캐시의 무효화 공통 처리
+ * - 무효화 시 바로 지우고, transaction 안이라면 commit 이후에 한 번 더 지운 뒤 Redis pub/sub으로 다른 서버에 전파
+ *   (commit 전에 다시 읽힌 값이 남지 않도록)
+ * - 지울 때마다 InvalidationStamps 번호를 올리므로, 조회 전에 stamp를 읽고 putIfUnchanged로 저장하면
+ *   조회 도중 무효화된 값은 캐시에 남지 않음
+ * - 전파 실패 시 다른 서버는 TTL 만료 후 갱신됨
+ * 캐시마다 하나씩 만들어 생성자에서 subscribe 하고, 실제로 지우는 방법(evictor)만 넘김
+ * @param <K> 무효화 key 타입 (Redis로 전달되므로 직렬화 후에도 같은 타입이어야 함)
+ */
+@Slf4j
+public class CacheInvalidator<K> implements MessageListener {
+
+    private final String name;
+    private final String channel;
+    private final Class<K> keyType;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Consumer<K> evictor;
+    private final InvalidationStamps stamps = new InvalidationStamps();
+    // 전체 무효화를 뜻하는 key (없으면 null)
+    private K allKey;
+    // commit 이후 전파 전에 발행한 서버에서만 한 번 실행 (ex. Redis 값 무효화)
+    private Consumer<K> onCommit = key -> {
+    };
+
+    /**
+     * @param name 로그용 캐시 이름
+     * @param channel Redis pub/sub 채널
+     * @param keyType 무효화 key 타입
+     * @param redisTemplate 전파용
+     * @param evictor 이 서버의 캐시에서 key를 지우는 방법
+     */
+    public CacheInvalidator(String name, String channel, Class<K> keyType, RedisTemplate<String, Object> redisTemplate, Consumer<K> evictor) {
+        this.name = name;
+        this.channel = channel;
+        this.keyType = keyType;
+        this.redisTemplate = redisTemplate;
+        this.evictor = evictor;
+    }
+
+    /**
+     * 전체 무효화 key 지정 (이 key로 무효화하면 모든 조회의 stamp가 바뀜)
+     */
+    public CacheInvalidator<K> allKey(K allKey) {
+        this.allKey = allKey;
+        return this;
+    }
+
+    /**
+     * commit 이후 전파 전에 실행할 작업 지정
+     */
+    public CacheInvalidator<K> onCommit(Consumer<K> onCommit) {
+        this.onCommit = onCommit;
+        return this;
+    }
+
+    public void subscribe(RedisMessageListenerContainer listenerContainer) {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * 조회 시작 시점의 무효화 번호 (조회 전에 읽음)
+     * @param key 무효화 key
+     */
+    public long stamp(K key) {
+        return stamps.stamp(key);
+    }
+
+    /**
+     * 조회 도중 무효화되지 않은 경우에만 저장
+     * @param cache 캐시
+     * @param key 무효화 key (캐시 key와 같음)
+     * @param value 저장할 값
+     * @param stamp 조회 전에 읽은 stamp(key)
+     * @return 저장되었으면 true
+     */
+    public <V> boolean putIfUnchanged(Map<K, V> cache, K key, V value, long stamp) {
+        return stamps.putIfUnchanged(cache, key, value, key, stamp);
+    }
+
+    /**
+     * 캐시 key와 무효화 key가 다른 경우 (ex. namespace별 map에 조건 key로 저장)
+     * @param cache 캐시
+     * @param cacheKey 캐시 key
+     * @param value 저장할 값
+     * @param key 무효화 key
+     * @param stamp 조회 전에 읽은 stamp(key)
+     * @return 저장되었으면 true
+     */
+    public <M, V> boolean putIfUnchanged(Map<M, V> cache, M cacheKey, V value, K key, long stamp) {
+        return stamps.putIfUnchanged(cache, cacheKey, value, key, stamp);
+    }
+
+    /**
+     * 변경 후 캐시 무효화
+     * @param key 무효화 key
+     */
+    public void invalidate(K key) {
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                    publish(key);
+                }
+            });
+        } else {
+            publish(key);
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object key = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (keyType.isInstance(key)) {
+            evict(keyType.cast(key));
+        }
+    }
+
+    private void evict(K key) {
+        if (Objects.equals(key, allKey)) {
+            stamps.bumpAll();
+        } else {
+            stamps.bump(key);
+        }
+        evictor.accept(key);
+    }
+
+    private void publish(K key) {
+        try {
+            onCommit.accept(key);
+            redisTemplate.convertAndSend(channel, key);
+        } catch (DataAccessException e) {
+            log.warn(name + " 캐시 무효화 전파 실패, key: " + key + ", 에러 메세지: " + e.getMessage());
+        }
+    }
+}
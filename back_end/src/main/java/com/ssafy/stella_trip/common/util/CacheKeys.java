@@ -0,0 +1,54 @@
+package com.ssafy.stella_trip.common.util;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 조건을 캐시 key로 정규화 (CountCache, ResponseCache 공통)
+ */
+public class CacheKeys {
+
+    private CacheKeys() {
+    }
+
+    /**
+     * 검색 조건 정규화
+     * mapper에서 null과 빈 문자열을 같은 조건으로 처리하므로 key도 같게 만들고,
+     * IN 조건으로 쓰이는 collection은 순서 / 중복과 상관없도록 정렬
+     * 문자열은 길이를 앞에 붙여 구분자가 포함되어도 다른 조건과 key가 겹치지 않도록 함
+     * @param filters 검색 조건 (순서가 의미를 가짐)
+     */
+    public static String of(Object... filters) {
+        StringBuilder sb = new StringBuilder();
+        for (Object filter : filters) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(normalize(filter));
+        }
+        return sb.toString();
+    }
+
+    private static String normalize(Object filter) {
+        if (filter == null) {
+            return "";
+        }
+        if (filter instanceof String) {
+            String value = (String) filter;
+            return value.isEmpty() ? "" : value.length() + ":" + value;
+        }
+        if (filter instanceof Collection<?> values) {
+            if (values.isEmpty()) {
+                return "";
+            }
+            return values.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::valueOf)
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.joining(";", "[", "]"));
+        }
+        return String.valueOf(filter);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.ssafy.stella_trip.common.dto.CountDTO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 조회의 COUNT 결과 캐시
+ * 같은 검색 조건으로 페이지만 넘기는 경우 COUNT 쿼리를 반복하지 않도록 (namespace, 정규화된 조건) 단위로 짧게 보관
+ * 쓰기 경로에서 namespace 또는 조건 단위로 무효화하고, Redis pub/sub으로 다른 서버에도 전파
+ */
+@Component
+public class CountCache {
+
+    public static final String ATTRACTION_SEARCH = "attraction-search";
+    public static final String ATTRACTION_REVIEW = "attraction-review";
+    public static final String PLAN_SEARCH = "plan-search";
+    public static final String PLAN_WRITER = "plan-writer";
+    public static final String NOTIFICATION = "notification";
+
+    private static final String INVALIDATE_CHANNEL = "count-cache-invalidate";
+    // namespace와 조건 key 구분자 (namespace에는 포함되지 않음)
+    private static final char KEY_SEPARATOR = '|';
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Entry>> cache = new ConcurrentHashMap<>();
+    // 무효화 key는 namespace 또는 namespace|조건
+    private final CacheInvalidator<String> invalidator;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public CountCache(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${pagination.count-cache.max-size:1000}") int maxSize,
+            @Value("${pagination.count-cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.listenerContainer = listenerContainer;
+        this.invalidator = new CacheInvalidator<>("COUNT", INVALIDATE_CHANNEL, String.class, redisTemplate, this::evict);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidator.subscribe(listenerContainer);
+    }
+
+    /**
+     * 캐시된 개수 조회, 없거나 만료되었으면 counter로 다시 계산
+     * @param namespace 조회 종류
+     * @param counter 실제 COUNT 쿼리
+     * @param filters 검색 조건 (순서가 의미를 가짐)
+     * @return 새로 계산했으면 exact, 캐시에서 꺼냈으면 estimated
+     */
+    public CountDTO getOrCount(String namespace, Supplier<Integer> counter, Object... filters) {
+        String key = CacheKeys.of(filters);
+        long now = System.currentTimeMillis();
+        Map<String, Entry> entries = cache.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>());
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return new CountDTO(entry.count, true);
+        }
+
+        // 조회 도중 해당 조건이 무효화되면 commit 전에 센 값을 남기지 않음 (namespace 무효화는 map 자체가 교체됨)
+        String target = namespace + KEY_SEPARATOR + key;
+        long stamp = invalidator.stamp(target);
+        int count = counter.get();
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+        invalidator.putIfUnchanged(entries, key, new Entry(count, now + ttlMillis), target, stamp);
+        return CountDTO.exact(count);
+    }
+
+    /**
+     * namespace 전체 무효화 (검색 결과 집합이 조건과 상관없이 바뀔 수 있는 쓰기)
+     * @param namespace 조회 종류
+     */
+    public void invalidate(String namespace) {
+        invalidator.invalidate(namespace);
+    }
+
+    /**
+     * 특정 조건의 개수만 무효화 (ex. 한 여행지의 리뷰 수)
+     * @param namespace 조회 종류
+     * @param filters getOrCount에 넘긴 것과 같은 조건
+     */
+    public void invalidate(String namespace, Object... filters) {
+        invalidator.invalidate(namespace + KEY_SEPARATOR + CacheKeys.of(filters));
+    }
+
+    private void evict(String target) {
+        int separator = target.indexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            cache.remove(target);
+            return;
+        }
+        Map<String, Entry> entries = cache.get(target.substring(0, separator));
+        if (entries != null) {
+            entries.remove(target.substring(separator + 1));
+        }
+    }
+
+    private record Entry(int count, long expiresAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.ssafy.stella_trip.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 값을 클라이언트에 넘길 불투명(opaque) 문자열로 변환하는 codec
+ * 커서를 구성하는 필드들을 구분자로 이어 붙인 뒤 Base64url로 인코딩
+ * @param <C> 커서 타입
+ */
+public abstract class CursorCodec<C> {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 단일 int key (ex. attraction_id 오름차순)
+     */
+    public static final CursorCodec<Integer> ID = new CursorCodec<>() {
+        @Override
+        protected String[] toFields(Integer cursor) {
+            return new String[]{String.valueOf(cursor)};
+        }
+
+        @Override
+        protected Integer fromFields(String[] fields) {
+            return Integer.parseInt(fields[0]);
+        }
+    };
+
+    /**
+     * (시간, id) 복합 key (ex. created_at DESC, id DESC)
+     */
+    public static final CursorCodec<TimeIdCursor> TIME_ID = new CursorCodec<>() {
+        @Override
+        protected String[] toFields(TimeIdCursor cursor) {
+            return new String[]{cursor.time().toString(), String.valueOf(cursor.id())};
+        }
+
+        @Override
+        protected TimeIdCursor fromFields(String[] fields) {
+            return new TimeIdCursor(LocalDateTime.parse(fields[0]), Integer.parseInt(fields[1]));
+        }
+    };
+
+    protected abstract String[] toFields(C cursor);
+
+    protected abstract C fromFields(String[] fields);
+
+    /**
+     * 커서를 문자열로 인코딩
+     * @param cursor 커서 값
+     * @return Base64url 문자열
+     */
+    public String encode(C cursor) {
+        String raw = String.join(SEPARATOR, toFields(cursor));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열을 커서로 디코딩
+     * @param cursor Base64url 문자열
+     * @return 커서 값, 비어 있으면 첫 페이지를 의미하는 null
+     * @throws InvalidCursorException 해석할 수 없는 커서인 경우
+     */
+    public C decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return fromFields(raw.split("\\" + SEPARATOR, -1));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("커서를 해석할 수 없습니다. cursor: " + cursor);
+        }
+    }
+
+    /**
+     * (시간, id) 복합 커서
+     */
+    public record TimeIdCursor(LocalDateTime time, int id) {
+    }
+}
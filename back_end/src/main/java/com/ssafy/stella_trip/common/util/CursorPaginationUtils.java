@@ -0,0 +1,60 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.ssafy.stella_trip.common.dto.CountDTO;
+import com.ssafy.stella_trip.common.dto.CursorPageDTO;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class CursorPaginationUtils {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    /**
+     * 커서(keyset) 페이지네이션 처리를 위한 제네릭 메서드
+     * size + 1개를 조회해서 다음 페이지 여부를 판단하므로 COUNT 쿼리가 필요 없음
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기
+     * @param codec 커서 인코딩 / 디코딩 codec
+     * @param elementsSupplier (디코딩된 커서, 조회 개수)로 요소를 가져오는 함수, 첫 페이지의 커서는 null
+     * @param cursorExtractor 요소에서 다음 커서 값을 꺼내는 함수
+     * @param dtoConverter DTO를 응답 DTO로 변환하는 함수
+     * @param totalElementsSupplier 전체 요소 수를 가져오는 함수, 필요 없으면 null (CountCache의 근사값도 가능)
+     * @return 커서 페이지 응답 DTO
+     */
+    public static <T, C, R> CursorPageDTO<R> getCursorPagedResult(
+            String cursor,
+            int size,
+            CursorCodec<C> codec,
+            BiFunction<C, Integer, List<T>> elementsSupplier,
+            Function<T, C> cursorExtractor,
+            Function<T, R> dtoConverter,
+            Supplier<CountDTO> totalElementsSupplier) {
+
+        if (size < 1) {
+            size = DEFAULT_SIZE;
+        }
+
+        List<T> elements = elementsSupplier.apply(codec.decode(cursor), size + 1);
+        boolean hasNext = elements.size() > size;
+        if (hasNext) {
+            elements = elements.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+                ? codec.encode(cursorExtractor.apply(elements.get(elements.size() - 1)))
+                : null;
+        CountDTO total = totalElementsSupplier == null ? null : totalElementsSupplier.get();
+
+        return CursorPageDTO.<R>builder()
+                .content(elements.stream().map(dtoConverter).toList())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .size(size)
+                .totalElements(total == null ? null : total.getCount())
+                .totalEstimated(total != null && total.isEstimated())
+                .build();
+    }
+}
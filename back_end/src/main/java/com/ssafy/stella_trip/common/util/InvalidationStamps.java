@@ -0,0 +1,86 @@
+package com.ssafy.stella_trip.common.util;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 캐시 조회(DB 읽기 → put) 도중에 일어난 무효화를 감지하기 위한 key별 무효화 번호
+ * 조회 전에 stamp를 읽어 두고, put 이후 번호가 바뀌었으면 방금 넣은 값을 다시 지움
+ * (commit 전에 읽은 값이 afterCommit 무효화 이후에 들어가 TTL 동안 남는 것을 방지)
+ * key마다 번호를 두면 map이 계속 커지므로 key hash로 고정 개수의 stripe를 공유함
+ * 같은 stripe의 다른 key가 무효화되면 put을 한 번 건너뛸 뿐 잘못된 값이 남지는 않음
+ */
+public class InvalidationStamps {
+
+    private static final int DEFAULT_STRIPES = 1024;
+
+    private final AtomicLongArray stripes;
+
+    public InvalidationStamps() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public InvalidationStamps(int stripes) {
+        this.stripes = new AtomicLongArray(stripes);
+    }
+
+    /**
+     * 조회 시작 시점의 무효화 번호
+     * @param key 캐시 key
+     */
+    public long stamp(Object key) {
+        return stripes.get(index(key));
+    }
+
+    /**
+     * key 무효화 기록, 캐시에서 값을 지우기 전에 호출
+     * @param key 캐시 key
+     */
+    public void bump(Object key) {
+        stripes.incrementAndGet(index(key));
+    }
+
+    /**
+     * 전체 무효화 기록, 캐시를 비우기 전에 호출
+     */
+    public void bumpAll() {
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * 조회 도중 무효화되지 않은 경우에만 캐시에 저장
+     * 먼저 넣고 나서 번호를 확인하므로, 확인과 put 사이에 무효화가 끼어들어도 둘 중 한쪽에서 지워짐
+     * @param cache 캐시
+     * @param key 캐시 key
+     * @param value 저장할 값
+     * @param stamp 조회 시작 전에 읽은 stamp(key)
+     * @return 저장되었으면 true
+     */
+    public <K, V> boolean putIfUnchanged(Map<K, V> cache, K key, V value, long stamp) {
+        return putIfUnchanged(cache, key, value, key, stamp);
+    }
+
+    /**
+     * 캐시 key와 무효화 key가 다른 경우 (ex. namespace별 map에 조건 key로 저장하고 namespace|조건으로 무효화)
+     * @param cache 캐시
+     * @param key 캐시 key
+     * @param value 저장할 값
+     * @param stampKey 무효화 key
+     * @param stamp 조회 시작 전에 읽은 stamp(stampKey)
+     * @return 저장되었으면 true
+     */
+    public <K, V> boolean putIfUnchanged(Map<K, V> cache, K key, V value, Object stampKey, long stamp) {
+        cache.put(key, value);
+        if (stamp(stampKey) != stamp) {
+            cache.remove(key, value);
+            return false;
+        }
+        return true;
+    }
+
+    private int index(Object key) {
+        return Math.floorMod(key.hashCode() * 0x9E3779B9, stripes.length());
+    }
+}
@@ -0,0 +1,179 @@
+package com.ssafy.stella_trip.common.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 자주 바뀌지 않는 작은 Redis 캐시 값(시군구, 추천 여행지 / 태그, stella) 앞에 두는 서버 메모리 캐시
+ * 매 요청마다 Redis 조회와 역직렬화를 하지 않고 heap에 있는 객체를 그대로 반환
+ * - Redis에 값을 새로 저장할 때마다 전역 버전 번호를 증가시켜 pub/sub으로 (버전, key)를 알리고,
+ *   각 서버는 그보다 오래된 버전으로 저장한 값을 버림 (Redis에서 읽은 값은 버전 0)
+ * - 조회 도중 새 버전이 알려지면 조회한 값은 메모리에 저장하지 않음 (InvalidationStamps)
+ * - Redis에도 없으면 lock을 얻은 서버만 저장하고 알림, 나머지 서버는 조회한 값을 메모리에만 둠
+ * - pub/sub 메세지가 유실되더라도 메모리 값은 TTL 이후 Redis에서 다시 읽음
+ */
+@Slf4j
+@Component
+public class NearCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "near-cache-invalidate";
+    private static final String VERSION_KEY = "near-cache:version";
+    private static final String LOCK_PREFIX = "near-cache:lock:";
+    private static final long LOCK_TTL_MILLIS = 5000;
+    // 버전과 key 구분자 (버전은 숫자이므로 key에 포함되어 있어도 처음 구분자로 나눔)
+    private static final char VERSION_SEPARATOR = ':';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+    // 조회 도중 새 버전이 알려졌는지 확인 (key마다 버전을 두면 다른 서버의 stella 링크까지 계속 쌓이므로 stripe로 공유)
+    private final InvalidationStamps stamps = new InvalidationStamps();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public NearCache(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${near-cache.max-size:1000}") int maxSize,
+            @Value("${near-cache.ttl-ms:300000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 메모리 → Redis → loader 순서로 조회
+     * loader로 조회한 값은 lock을 얻은 경우에만 Redis와 메모리에 저장하고 다른 서버에 알림
+     * @param key Redis key
+     * @param type 값 타입 (Redis 값이 다른 타입이면 없는 것으로 처리)
+     * @param loader 실제 조회
+     * @param ttl Redis 만료 시간 (0 이하면 만료 없음)
+     * @param unit ttl 단위
+     * @return 값 (여러 요청이 같은 객체를 공유하므로 수정하면 안 됨)
+     */
+    public <T> T get(String key, Class<T> type, Supplier<T> loader, long ttl, TimeUnit unit) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return type.cast(entry.value);
+        }
+
+        long stamp = stamps.stamp(key);
+        boolean locked = false;
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (type.isInstance(cached)) {
+                cacheLocal(key, new Entry(cached, 0, localExpiresAt(now, redisTemplate.getExpire(key, TimeUnit.MILLISECONDS))), stamp);
+                return type.cast(cached);
+            }
+            // 여러 서버가 동시에 비어 있는 key를 조회해도 저장 / 알림은 한 서버만
+            locked = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_PREFIX + key, "1", LOCK_TTL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (DataAccessException e) {
+            log.warn("Redis 캐시 조회 실패, key: " + key + ", 에러 메세지: " + e.getMessage());
+        }
+
+        T value = loader.get();
+        if (locked) {
+            put(key, value, ttl, unit);
+        } else {
+            // lock을 얻은 서버가 저장하면 알림을 받아 지워지고, 이후 Redis에서 다시 읽음
+            cacheLocal(key, new Entry(value, 0, localExpiresAt(now, ttl > 0 ? unit.toMillis(ttl) : null)), stamp);
+        }
+        return value;
+    }
+
+    /**
+     * Redis와 메모리에 저장하고 다른 서버의 메모리 값을 무효화
+     * @param key Redis key
+     * @param value 값
+     * @param ttl Redis 만료 시간 (0 이하면 만료 없음)
+     * @param unit ttl 단위
+     */
+    public void put(String key, Object value, long ttl, TimeUnit unit) {
+        long now = System.currentTimeMillis();
+        try {
+            if (ttl > 0) {
+                redisTemplate.opsForValue().set(key, value, ttl, unit);
+            } else {
+                redisTemplate.opsForValue().set(key, value);
+            }
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            if (version != null) {
+                // 자신이 발행한 알림은 같은 버전이므로 이 값을 지우지 않음
+                Entry entry = new Entry(value, version, localExpiresAt(now, ttl > 0 ? unit.toMillis(ttl) : null));
+                stamps.bump(key);
+                cache.put(key, entry);
+                redisTemplate.convertAndSend(INVALIDATE_CHANNEL, version + String.valueOf(VERSION_SEPARATOR) + key);
+            }
+        } catch (DataAccessException e) {
+            // 다른 서버와 값이 달라질 수 있으므로 메모리에도 남기지 않음
+            cache.remove(key);
+            log.warn("Redis 캐시 저장 실패, key: " + key + ", 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버(자신 포함)에서 발행한 새 버전 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(body instanceof String)) {
+            return;
+        }
+        String target = (String) body;
+        int separator = target.indexOf(VERSION_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        try {
+            long version = Long.parseLong(target.substring(0, separator));
+            String key = target.substring(separator + 1);
+            Entry entry = cache.get(key);
+            if (entry != null && entry.version >= version) {
+                // 이미 이 버전 이후의 값 (자신이 저장한 값이거나 늦게 도착한 이전 알림)
+                return;
+            }
+            stamps.bump(key);
+            cache.computeIfPresent(key, (k, current) -> current.version < version ? null : current);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 메모리 캐시 무효화 메세지: " + target);
+        }
+    }
+
+    private void cacheLocal(String key, Entry entry, long stamp) {
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        stamps.putIfUnchanged(cache, key, entry, stamp);
+    }
+
+    // 메모리 값은 Redis 값보다 오래 남지 않도록 함
+    private long localExpiresAt(long now, Long redisTtlMillis) {
+        long ttl = redisTtlMillis == null || redisTtlMillis < 0 ? ttlMillis : Math.min(ttlMillis, redisTtlMillis);
+        return now + ttl;
+    }
+
+    private record Entry(Object value, long version, long expiresAt) {
+    }
+}
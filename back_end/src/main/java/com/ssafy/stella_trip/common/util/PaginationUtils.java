@@ -1,5 +1,6 @@
 package com.ssafy.stella_trip.common.util;
 
+import com.ssafy.stella_trip.common.dto.CountDTO;
 import com.ssafy.stella_trip.common.dto.PageDTO;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +28,26 @@ public class PaginationUtils {
             BiFunction<Integer, Integer, List<T>> elementsSupplier,
             Function<T, R> dtoConverter) {
 
-        int totalElements = totalElementsSupplier.get();
+        return getPagedResult(page, size, CountDTO.exact(totalElementsSupplier.get()), elementsSupplier, dtoConverter);
+    }
+
+    /**
+     * 이미 구한 전체 개수로 페이지네이션 처리 (CountCache 등에서 가져온 개수)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param total 전체 요소 수와 근사값 여부
+     * @param elementsSupplier 페이지 요소를 가져오는 함수
+     * @param dtoConverter DTO를 응답 DTO로 변환하는 함수
+     * @return 페이징된 응답 DTO
+     */
+    public static <T, R> PageDTO<R> getPagedResult(
+            int page,
+            int size,
+            CountDTO total,
+            BiFunction<Integer, Integer, List<T>> elementsSupplier,
+            Function<T, R> dtoConverter) {
+
+        int totalElements = total.getCount();
         PageInfo pageInfo = calculatePageInfo(totalElements, page, size);
 
         List<T> elements = elementsSupplier.apply(pageInfo.offset, size);
@@ -38,6 +58,7 @@ public class PaginationUtils {
         return PageDTO.<R>builder()
                 .content(responseElements)
                 .totalElements(totalElements)
+                .totalEstimated(total.isEstimated())
                 .totalPages(pageInfo.totalPages)
                 .page(page)
                 .size(size)
@@ -0,0 +1,232 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 로그인하지 않은 사용자의 목록 / 상세 응답 캐시
+ * (namespace, 정규화된 조건) 단위로 서버 메모리(L1)와 Redis(L2)에 짧게 보관
+ * - 같은 key를 동시에 조회하면 한 요청만 Redis / DB를 조회하고 나머지는 그 결과를 기다림
+ * - 같은 key를 기다리는 시간은 coalesce-timeout-ms까지이고, 넘으면 기다리지 않고 직접 조회
+ * - Redis에는 namespace별 세대 번호와 key별 번호를 key에 붙여 저장하므로, 무효화는 번호 증가 한 번으로 끝나고
+ *   무효화 전에 조회를 시작한 요청이 나중에 저장하더라도 이전 번호의 key에 들어가 더 이상 읽히지 않음
+ *   (서버 메모리도 CacheInvalidator의 stamp로 같은 경우를 막음)
+ * - 쓰기 경로에서 commit 이후 무효화하고 Redis pub/sub으로 다른 서버의 L1도 지움
+ * 좋아요 수처럼 자주 바뀌는 값은 무효화하지 않고 TTL 동안 이전 값을 보여줌
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    public static final String ATTRACTION_SEARCH = "attraction-search";
+    public static final String ATTRACTION_DETAIL = "attraction-detail";
+    public static final String PLAN_SEARCH = "plan-search";
+
+    private static final String INVALIDATE_CHANNEL = "response-cache-invalidate";
+    private static final String REDIS_KEY_PREFIX = "response-cache:";
+    // namespace와 조건 key 구분자 (namespace에는 포함되지 않음)
+    private static final char KEY_SEPARATOR = '|';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Entry>> cache = new ConcurrentHashMap<>();
+    // namespace|key → 진행 중인 조회
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    // 무효화 key는 namespace 또는 namespace|조건 (namespace 무효화는 map 자체를 교체하므로 조건 단위 stamp만 사용)
+    private final CacheInvalidator<String> invalidator;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long coalesceTimeoutMillis;
+
+    public ResponseCache(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${response-cache.max-size:2000}") int maxSize,
+            @Value("${response-cache.ttl-ms:30000}") long ttlMillis,
+            @Value("${response-cache.coalesce-timeout-ms:3000}") long coalesceTimeoutMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.invalidator = new CacheInvalidator<>("응답", INVALIDATE_CHANNEL, String.class, redisTemplate, this::evictLocal)
+                .onCommit(this::evictRedis);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.coalesceTimeoutMillis = coalesceTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidator.subscribe(listenerContainer);
+    }
+
+    /**
+     * 캐시된 응답 조회, L1 → L2 → loader 순서
+     * @param namespace 조회 종류
+     * @param type 응답 타입 (Redis에서 꺼낼 때 사용)
+     * @param loader 실제 조회 (예외는 캐시하지 않고 그대로 전달)
+     * @param filters 조회 조건 (순서가 의미를 가짐)
+     * @return 응답 (여러 요청이 같은 객체를 공유하므로 수정하면 안 됨)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String namespace, TypeReference<T> type, Supplier<T> loader, Object... filters) {
+        String key = CacheKeys.of(filters);
+        long now = System.currentTimeMillis();
+        // 조회 도중 namespace가 무효화되면 이 map이 교체되므로, 오래된 결과는 버려진 map에만 들어감
+        Map<String, Entry> entries = cache.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>());
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return (T) entry.value;
+        }
+
+        String loadingKey = namespace + KEY_SEPARATOR + key;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(loadingKey, future);
+        if (running != null) {
+            return awaitRunning(running, namespace, key, type, loader);
+        }
+
+        try {
+            long stamp = invalidator.stamp(loadingKey);
+            T value = load(namespace, key, type, loader);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+            invalidator.putIfUnchanged(entries, key, new Entry(value, System.currentTimeMillis() + ttlMillis), loadingKey, stamp);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(loadingKey, future);
+        }
+    }
+
+    /**
+     * namespace 전체 무효화 (목록 구성이 조건과 상관없이 바뀔 수 있는 쓰기)
+     * @param namespace 조회 종류
+     */
+    public void invalidate(String namespace) {
+        invalidator.invalidate(namespace);
+    }
+
+    /**
+     * 특정 조건의 응답만 무효화 (ex. 한 여행지의 상세)
+     * @param namespace 조회 종류
+     * @param filters get에 넘긴 것과 같은 조건
+     */
+    public void invalidate(String namespace, Object... filters) {
+        invalidator.invalidate(namespace + KEY_SEPARATOR + CacheKeys.of(filters));
+    }
+
+    // 같은 key를 먼저 조회 중인 요청의 결과를 기다림, 오래 걸리면 기다리지 않고 직접 조회 (메모리에는 저장하지 않음)
+    @SuppressWarnings("unchecked")
+    private <T> T awaitRunning(CompletableFuture<Object> running, String namespace, String key, TypeReference<T> type, Supplier<T> loader) {
+        try {
+            return (T) running.get(coalesceTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("응답 캐시 조회 대기 시간 초과, namespace: " + namespace + ", 직접 조회");
+            return load(namespace, key, type, loader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return load(namespace, key, type, loader);
+        }
+    }
+
+    // L2 조회, 없으면 loader로 조회해서 L2에 저장 (Redis 장애 시 DB 조회만)
+    private <T> T load(String namespace, String key, TypeReference<T> type, Supplier<T> loader) {
+        String redisKey = null;
+        try {
+            redisKey = redisKey(namespace, key);
+            Object json = redisTemplate.opsForValue().get(redisKey);
+            if (json instanceof String) {
+                return objectMapper.readValue((String) json, type);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("응답 캐시 조회 실패, namespace: " + namespace + ", 에러 메세지: " + e.getMessage());
+        }
+
+        T value = loader.get();
+        if (redisKey != null) {
+            try {
+                redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), ttlMillis, TimeUnit.MILLISECONDS);
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.warn("응답 캐시 저장 실패, namespace: " + namespace + ", 에러 메세지: " + e.getMessage());
+            }
+        }
+        return value;
+    }
+
+    private void evictLocal(String target) {
+        int separator = target.indexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            cache.remove(target);
+            return;
+        }
+        Map<String, Entry> entries = cache.get(target.substring(0, separator));
+        if (entries != null) {
+            entries.remove(target.substring(separator + 1));
+        }
+    }
+
+    // commit 이후 발행한 서버에서만 번호 증가 (실패 시 Redis와 다른 서버의 L1은 TTL 만료 후 갱신됨)
+    private void evictRedis(String target) {
+        int separator = target.indexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            redisTemplate.opsForValue().increment(generationKey(target));
+        } else {
+            // 이전 번호로 저장된 값은 TTL 후 만료, 번호 key는 그 사이 조회가 끝날 만큼만 남김
+            String versionKey = keyVersionKey(target.substring(0, separator), target.substring(separator + 1));
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, ttlMillis * 3, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 세대 번호와 key별 번호를 한 번에 조회해서 key에 붙임
+    private String redisKey(String namespace, String key) {
+        List<Object> versions = redisTemplate.opsForValue().multiGet(List.of(generationKey(namespace), keyVersionKey(namespace, key)));
+        Object generation = versions == null ? null : versions.get(0);
+        Object keyVersion = versions == null ? null : versions.get(1);
+        return REDIS_KEY_PREFIX + namespace + ":" + (generation == null ? 0 : generation)
+                + ":" + (keyVersion == null ? 0 : keyVersion) + ":" + key;
+    }
+
+    private static String generationKey(String namespace) {
+        return REDIS_KEY_PREFIX + namespace + ":generation";
+    }
+
+    private static String keyVersionKey(String namespace, String key) {
+        return REDIS_KEY_PREFIX + namespace + ":version:" + key;
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
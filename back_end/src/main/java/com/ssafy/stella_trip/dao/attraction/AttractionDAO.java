@@ -1,10 +1,15 @@
 package com.ssafy.stella_trip.dao.attraction;
 
 import com.ssafy.stella_trip.attraction.dto.*;
+import com.ssafy.stella_trip.common.dto.LikeCountCheckDTO;
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface AttractionDAO {
@@ -15,39 +20,62 @@ public interface AttractionDAO {
             @Param("attractionId") int attractionId);
 
     List<AttractionWithReviewsDTO> getAttractionByConditions(
-            @Param("userId") int userId,
             @Param("sidoCode") Integer sidoCode,
             @Param("gugunCode") Integer gugunCode,
             @Param("contentTypeIds") List<Integer> contentTypeIds,
             @Param("keyword") String keyword,
+            @Param("attractionIds") List<Integer> attractionIds,
             @Param("offset") int offset,
             @Param("size") int size);
 
+    List<AttractionWithReviewsDTO> getAttractionByConditionsAfter(
+            @Param("sidoCode") Integer sidoCode,
+            @Param("gugunCode") Integer gugunCode,
+            @Param("contentTypeIds") List<Integer> contentTypeIds,
+            @Param("keyword") String keyword,
+            @Param("attractionIds") List<Integer> attractionIds,
+            @Param("lastAttractionId") int lastAttractionId,
+            @Param("size") int size);
+
     int getAttractionCountByConditions(
             @Param("sidoCode") Integer sidoCode,
             @Param("gugunCode") Integer gugunCode,
             @Param("contentTypeIds") List<Integer> contentTypeIds,
-            @Param("keyword") String keyword);
+            @Param("keyword") String keyword,
+            @Param("attractionIds") List<Integer> attractionIds);
 
     List<AttractionDTO> getAttractionsByContentTypeId(int contentTypeId);
+    List<AttractionDTO> getAttractionSuggestSources();
+    List<AttractionDTO> getAttractionGeoSources();
     int countLikedAttractionsByUserId(int userId);
     List<AttractionWithReviewsDTO> getLikedAttractionsWithReviews(@Param("userId") int userId, @Param("offset") int offset, @Param("size") int size);
 
     ReviewDTO getReviewByReviewId(int reviewId);
+    List<ReviewDTO> getTopReviewIdsByAttractionIds(@Param("attractionIds") Collection<Integer> attractionIds, @Param("limit") int limit);
+    List<ReviewWithUserNameDTO> getReviewsByReviewIds(@Param("reviewIds") Collection<Integer> reviewIds);
     int countReviewsByAttractionId(int attractionId);
-    List<ReviewWithUserNameDTO> getReviewsByAttractionId(@Param("attractionId") int attractionId, @Param("offset") int offset, @Param("size") int size, @Param("userId") Integer userId);
+    List<ReviewWithUserNameDTO> getReviewsByAttractionId(@Param("attractionId") int attractionId, @Param("offset") int offset, @Param("size") int size);
+    List<ReviewWithUserNameDTO> getReviewsByAttractionIdAfter(
+            @Param("attractionId") int attractionId,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastReviewId") int lastReviewId,
+            @Param("size") int size);
     int insertReview(ReviewDTO reviewDTO);
     int updateReview(ReviewDTO reviewDTO);
     int deleteReviewByReviewId(int reviewId);
-    int increaseReviewLikeCount(int reviewId);
-    int decreaseReviewLikeCount(int reviewId);
+    int applyReviewLikeCountDeltas(@Param("deltas") Map<Integer, Integer> deltas);
+    List<LikeCountCheckDTO> getReviewLikeCountChecks(@Param("afterId") int afterId, @Param("ids") Collection<Integer> ids, @Param("limit") int limit);
+    int fixReviewLikeCount(LikeCountCheckDTO check);
     int insertLikedReview(@Param("userId") int userId, @Param("attractionId") int attractionId ,@Param("reviewId") int reviewId);
     int deleteLikedReview(@Param("userId") int userId, @Param("attractionId") int attractionId ,@Param("reviewId") int reviewId);
-    LikedReviewDTO findLikedReview(@Param("userId") int userId, @Param("reviewId") int reviewId);
+    List<Integer> getLikedReviewIdsByUserId(@Param("userId") int userId);
+    LikeStateDTO getReviewLikeState(@Param("userId") int userId, @Param("attractionId") int attractionId, @Param("reviewId") int reviewId);
 
-    int increaseAttractionLikeCount(int attractionId);
-    int decreaseAttractionLikeCount(int attractionId);
+    int applyAttractionLikeCountDeltas(@Param("deltas") Map<Integer, Integer> deltas);
+    List<LikeCountCheckDTO> getAttractionLikeCountChecks(@Param("afterId") int afterId, @Param("ids") Collection<Integer> ids, @Param("limit") int limit);
+    int fixAttractionLikeCount(LikeCountCheckDTO check);
     int insertLikedAttraction(@Param("attractionId") int attractionId, @Param("userId") int userId);
     int deleteLikedAttraction(@Param("attractionId") int attractionId, @Param("userId") int userId);
-    LikedAttractionDTO findLikedAttraction(@Param("attractionId") int attractionId, @Param("userId") int userId);
+    List<Integer> getLikedAttractionIdsByUserId(@Param("userId") int userId);
+    LikeStateDTO getAttractionLikeState(@Param("attractionId") int attractionId, @Param("userId") int userId);
 }
@@ -1,5 +1,7 @@
 package com.ssafy.stella_trip.dao.plan;
 
+import com.ssafy.stella_trip.common.dto.LikeCountCheckDTO;
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
 import com.ssafy.stella_trip.plan.dto.PlanDTO;
 import com.ssafy.stella_trip.plan.dto.RouteDTO;
 import com.ssafy.stella_trip.plan.dto.TagDTO;
@@ -8,7 +10,9 @@ import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface PlanDAO {
@@ -17,28 +21,31 @@ public interface PlanDAO {
             @Param("offset") int offset,
             @Param("size") int size,
             @Param("search") String search,
+            @Param("planIds") List<Integer> planIds,
             @Param("userName") String userName,
             @Param("minDuration") int minDuration,
             @Param("maxDuration") int maxDuration,
-            @Param("sort") String sort,
-            @Param("currentUserId") int currentUserId
+            @Param("sort") String sort
     );
     int countPlansByCondition(
             @Param("search") String search,
+            @Param("planIds") List<Integer> planIds,
             @Param("userName") String userName,
             @Param("minDuration") int minDuration,
             @Param("maxDuration") int maxDuration
     );
 
-    int increaseLikeCount(@Param("planId") int planId);
+    int applyLikeCountDeltas(@Param("deltas") Map<Integer, Integer> deltas);
 
-    int decreaseLikeCount(@Param("planId") int planId);
+    List<LikeCountCheckDTO> getPlanLikeCountChecks(@Param("afterId") int afterId, @Param("ids") Collection<Integer> ids, @Param("limit") int limit);
 
-    void likePlan(@Param("planId") int planId, @Param("userId") int userId);
+    int fixPlanLikeCount(LikeCountCheckDTO check);
 
-    void unlikePlan(@Param("planId") int planId, @Param("userId") int userId);
+    int likePlan(@Param("planId") int planId, @Param("userId") int userId);
 
-    boolean isPlanLikedByUser(@Param("planId") int planId, @Param("userId") int userId);
+    int unlikePlan(@Param("planId") int planId, @Param("userId") int userId);
+
+    LikeStateDTO getPlanLikeState(@Param("planId") int planId, @Param("userId") int userId);
 
     int updatePlanSchedule(
             @Param("planId") int planId,
@@ -63,14 +70,9 @@ public interface PlanDAO {
             @Param("stella") String stella
     );
 
-    int insertRoute(
-            @Param("planId") int planId,
-            @Param("attractionId") int attractionId,
-            @Param("dayIndex") int dayIndex,
-            @Param("order") int order,
-            @Param("visitTime") LocalTime visitTime,
-            @Param("memo") String memo
-    );
+    String getStellaForUpdate(@Param("planId") int planId);
+
+    int insertRoute(@Param("route") RouteDTO route);
 
     int updateRoute(@Param("route") RouteDTO route);
 
@@ -94,6 +96,8 @@ public interface PlanDAO {
 
     boolean checkPlanWriter(@Param("planId") int planId, @Param("userId") int userId);
 
+    List<Integer> getPlanWriterIds(@Param("planId") int planId);
+
     int updateBasicPlanInfo(
             @Param("planId") int planId,
             @Param("title") String title,
@@ -115,8 +119,18 @@ public interface PlanDAO {
   
     List<PlanDTO> getLikedPlansByUserId(@Param("userId") int userId, @Param("offset") int offset, @Param("size") int size);
 
+    List<PlanDTO> getPlanCardsByPlanIds(@Param("planIds") Collection<Integer> planIds);
+
+    List<PlanDTO> getPlanWritersByPlanIds(@Param("planIds") Collection<Integer> planIds);
+
+    List<PlanDTO> getPlanTagsByPlanIds(@Param("planIds") Collection<Integer> planIds);
+
+    List<Integer> getLikedPlanIdsByUserId(@Param("userId") int userId);
+
     List<TagDTO> getTagsOrderedByCount(int size);
 
+    List<TagDTO> getAllTags();
+
     int countPlansByWriterId(@Param("userId") int userId);
 
     List<PlanDTO> getPlansByWriterId(
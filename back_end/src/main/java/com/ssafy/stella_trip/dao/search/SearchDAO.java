@@ -0,0 +1,16 @@
+package com.ssafy.stella_trip.dao.search;
+
+import com.ssafy.stella_trip.search.dto.SearchDocumentDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface SearchDAO {
+    List<SearchDocumentDTO> getAttractionSearchDocuments();
+
+    List<SearchDocumentDTO> getPlanSearchDocuments();
+
+    SearchDocumentDTO getPlanSearchDocument(@Param("planId") int planId);
+}
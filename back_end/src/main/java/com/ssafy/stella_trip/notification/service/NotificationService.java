@@ -5,6 +5,7 @@ import com.ssafy.stella_trip.notification.dto.response.NotificationDetailRespons
 import com.ssafy.stella_trip.notification.dto.response.NotificationResponseDTO;
 import com.ssafy.stella_trip.notification.exception.NotificationNotFoundException;
 import com.ssafy.stella_trip.common.dto.PageDTO;
+import com.ssafy.stella_trip.common.util.CountCache;
 import com.ssafy.stella_trip.common.util.PaginationUtils;
 import com.ssafy.stella_trip.dao.notification.NotificationDAO;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +16,13 @@ import org.springframework.stereotype.Service;
 public class NotificationService {
 
     private final NotificationDAO notificationDAO;
+    private final CountCache countCache;
 
     public PageDTO<NotificationResponseDTO> getNotificationList(int page, int size) {
         return PaginationUtils.getPagedResult(
                 page,
                 size,
-                notificationDAO::getNotificationCount,
+                countCache.getOrCount(CountCache.NOTIFICATION, notificationDAO::getNotificationCount),
                 (offset, pageSize) -> notificationDAO.getNotifications(pageSize, offset),
                 this::convertToNotificationResponseDTO
         );
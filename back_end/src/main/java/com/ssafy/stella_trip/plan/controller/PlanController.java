@@ -1,5 +1,6 @@
 package com.ssafy.stella_trip.plan.controller;
 
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
 import com.ssafy.stella_trip.common.dto.PageDTO;
 import com.ssafy.stella_trip.common.response.CommonResponse;
 import com.ssafy.stella_trip.plan.dto.request.*;
@@ -107,6 +108,23 @@ public class PlanController {
         return new CommonResponse<>(planService.unlikePlan(planId, user), HttpStatus.OK);
     }
 
+    @PutMapping("/{planId}/like")
+    @Operation(
+            summary = "좋아요 상태 지정",
+            description = "liked=true면 좋아요, false면 취소. 이미 같은 상태여도 오류 없이 현재 좋아요 여부와 좋아요 수를 반환"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 처리 완료"),
+            @ApiResponse(responseCode = "404", description = "PLAN-001: 해당 계획을 찾을 수 없습니다."),
+    })
+    public CommonResponse<LikeStateDTO> setPlanLike(
+            @PathVariable(value = "planId") int planId,
+            @RequestParam(value = "liked", defaultValue = "true") boolean liked,
+            @AuthenticationPrincipal JwtUserInfo user
+    ) {
+        return new CommonResponse<>(planService.setPlanLike(planId, liked, user), HttpStatus.OK);
+    }
+
     @GetMapping("/{planId}/lock-check")
     @Operation(
             summary = "여행 계획 Lock 체크",
@@ -215,6 +233,28 @@ public class PlanController {
         return new CommonResponse<>(planService.updatePlanRoutes(planId, routesUpdateRequestDTO, user), HttpStatus.OK);
     }
 
+    @PostMapping("/{planId}/optimize")
+    @Operation(
+            summary = "여행 계획 방문 순서 최적화",
+            description = "날짜별 방문 순서를 이동 거리(직선 거리)가 가장 짧아지도록 재배치합니다. \n" +
+                    "dayIndex가 없으면 모든 날짜를 최적화하고, fixStart / fixEnd가 true면 현재 첫 / 마지막 장소를 고정합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 수정 완료"),
+            @ApiResponse(responseCode = "404", description = "PLAN-001: 해당 ID의 계획을 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "403", description = "PLAN-003: 해당 계획에 대한 접근 권한이 없습니다."),
+            @ApiResponse(responseCode = "403", description = "PLAN-004: 해당 계획은 누군가 수정중입니다."),
+            @ApiResponse(responseCode = "400", description = "PLAN-005: 잘못된 여행 날짜입니다."),
+    })
+    public CommonResponse<PlanResponseDTO> optimizePlanRoutes(
+            @PathVariable(value = "planId") int planId,
+            @RequestBody(required = false) RouteOptimizeRequestDTO routeOptimizeRequestDTO,
+            @AuthenticationPrincipal JwtUserInfo user
+    ) {
+        RouteOptimizeRequestDTO request = routeOptimizeRequestDTO == null ? new RouteOptimizeRequestDTO() : routeOptimizeRequestDTO;
+        return new CommonResponse<>(planService.optimizePlanRoutes(planId, request, user), HttpStatus.OK);
+    }
+
     @PostMapping
     @Operation(
             summary = "여행 계획 추가",
@@ -1,5 +1,6 @@
 package com.ssafy.stella_trip.plan.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,9 @@ import java.util.List;
 public class ConstellationDTO {
     private List<Node> nodes = new ArrayList<>();
     private List<Edge> edges = new ArrayList<>();
+    // 비동기 재계산으로 저장된 경우 계산 요청 시점의 version
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
 
     @Data
     @NoArgsConstructor
@@ -28,6 +28,8 @@ public class PlanDTO {
     @JsonProperty("isPublic")
     private boolean isPublic;
     private String stella;
+    // 수정 요청에서 예약한 stella version (DB 컬럼 아님)
+    private Long stellaVersion;
     @JsonProperty("isLiked")
     private boolean isLiked;
 }
@@ -0,0 +1,17 @@
+package com.ssafy.stella_trip.plan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * plan 검색 1단계 결과 (페이지에 포함된 plan과 정렬 시점의 좋아요 수)
+ * 로그인하지 않은 검색은 이것만 ResponseCache에 보관하고 카드 내용은 요청마다 PlanCardCache에서 채움
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlanSearchHitDTO {
+    private int planId;
+    private int likeCount;
+}
@@ -0,0 +1,18 @@
+package com.ssafy.stella_trip.plan.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방문 순서 최적화 요청
+ * dayIndex가 없으면 모든 날짜, fixStart / fixEnd는 각 날짜의 현재 첫 / 마지막 장소를 고정
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteOptimizeRequestDTO {
+    private Integer dayIndex;
+    private boolean fixStart;
+    private boolean fixEnd;
+}
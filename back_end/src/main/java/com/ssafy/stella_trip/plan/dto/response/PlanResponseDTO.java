@@ -1,5 +1,6 @@
 package com.ssafy.stella_trip.plan.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
 import lombok.AllArgsConstructor;
@@ -21,6 +22,9 @@ public class PlanResponseDTO {
     private String description;
     @JsonRawValue
     private String stella;
+    // 수정 응답에만 포함, stella.version이 이 값 이상이 되면 이번 수정이 stella에 반영된 것
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long stellaVersion;
     private LocalDate startDate;
     private LocalDate endDate;
     private int likeCount;
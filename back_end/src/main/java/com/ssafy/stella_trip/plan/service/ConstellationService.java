@@ -6,20 +6,77 @@ import com.ssafy.stella_trip.attraction.dto.AttractionDTO;
 import com.ssafy.stella_trip.dao.plan.PlanDAO;
 import com.ssafy.stella_trip.plan.dto.ConstellationDTO;
 import com.ssafy.stella_trip.plan.dto.RouteDTO;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.stella_trip.plan.util.ConstellationCodec;
+import com.ssafy.stella_trip.util.PlanCardCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ConstellationService {
 
     private final int canvasSize = 500;
     private final PlanDAO planDAO;
+    private final PlanCardCache planCardCache;
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    private final boolean asyncEnabled;
+    private final long debounceMillis;
+    private final long maxDelayMillis;
+    private final int retryMaxAttempts;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+    private final TransactionTemplate transactionTemplate;
+    // stella 재계산 전용 thread 1개 (같은 plan의 재계산이 겹치지 않고 예약 순서대로 저장되도록)
+    private final ScheduledThreadPoolExecutor renderExecutor;
+    // planId → 대기 중인 재계산 (plan마다 최대 1개)
+    private final Map<Integer, PendingRender> pendingRenders = new ConcurrentHashMap<>();
+    // stella version (ms 단위 시각, 같은 ms 안에서도 증가)
+    // 서버마다 따로 증가하지만, 저장 시 이미 저장된 version보다 작아지지 않도록 맞춤
+    private final AtomicLong versionClock = new AtomicLong();
+
+    public ConstellationService(
+            PlanDAO planDAO,
+            PlanCardCache planCardCache,
+            @Value("${plan.stella.async-enabled:true}") boolean asyncEnabled,
+            @Value("${plan.stella.debounce-ms:300}") long debounceMillis,
+            @Value("${plan.stella.max-delay-ms:2000}") long maxDelayMillis,
+            @Value("${plan.stella.retry-max-attempts:5}") int retryMaxAttempts,
+            @Value("${plan.stella.retry-base-ms:1000}") long retryBaseMillis,
+            @Value("${plan.stella.retry-max-ms:60000}") long retryMaxMillis,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.planDAO = planDAO;
+        this.planCardCache = planCardCache;
+        this.asyncEnabled = asyncEnabled;
+        this.debounceMillis = debounceMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.retryMaxAttempts = retryMaxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.renderExecutor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("stella-render").daemon().factory());
+        // debounce로 취소된 예약이 queue에 남지 않도록
+        this.renderExecutor.setRemoveOnCancelPolicy(true);
+    }
+
     public ConstellationDTO convertJsonToConstellation(String json) throws JsonProcessingException {
         return objectMapper.readValue(json, ConstellationDTO.class);
     }
@@ -28,8 +85,207 @@ public class ConstellationService {
         return objectMapper.writeValueAsString(constellationDTO);
     }
 
-    public ConstellationDTO updateStella(int planId) throws JsonProcessingException {
-        List<RouteDTO> routes = planDAO.getRoutesByPlanId(planId);
+    /**
+     * plan.stella에 저장할 형식으로 변환 (ConstellationCodec)
+     */
+    public String encodeStella(ConstellationDTO constellationDTO) {
+        return ConstellationCodec.encode(constellationDTO);
+    }
+
+    /**
+     * 저장된 stella(압축 형식 또는 기존 JSON)를 응답용 JSON으로 변환
+     * 비어 있거나 읽을 수 없으면 그대로 / null 반환 (목록 조회 전체가 실패하지 않도록)
+     */
+    public String toStellaJson(String stored) {
+        if (stored == null || stored.isBlank()) {
+            return stored;
+        }
+        try {
+            return ConstellationCodec.toJson(stored);
+        } catch (IllegalArgumentException e) {
+            log.warn("stella 변환 실패 에러 메세지: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public ConstellationDTO updateStella(int planId) {
+        return updateStella(planId, planDAO.getRoutesByPlanId(planId), null);
+    }
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    /**
+     * route 변경 후 stella 재계산 예약 (요청 thread에서는 계산 / 저장하지 않음)
+     * transaction 안이라면 commit 이후에 예약하고, plan별로 debounce-ms 동안 모인 변경은 한 번만 계산해 저장
+     * 변경이 계속 이어져도 첫 예약 후 max-delay-ms 안에는 저장
+     * @param planId planId
+     * @return stella version (저장된 stella의 version이 이 값 이상이면 이번 변경까지 반영된 것)
+     */
+    public long requestStella(int planId) {
+        long version = versionClock.updateAndGet(prev -> Math.max(prev + 1, System.currentTimeMillis()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRender(planId, version);
+            return version;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRender(planId, version);
+            }
+        });
+        return version;
+    }
+
+    private void scheduleRender(int planId, long version) {
+        try {
+            pendingRenders.compute(planId, (id, pending) -> {
+                long now = System.currentTimeMillis();
+                long firstRequestedAt = now;
+                long latestVersion = version;
+                // 아직 실행 전이면 취소하고 다시 예약, 이미 실행 중이면 그 다음에 새로 예약
+                if (pending != null && pending.future.cancel(false)) {
+                    firstRequestedAt = pending.firstRequestedAt;
+                    latestVersion = Math.max(pending.version, version);
+                }
+                long delay = Math.max(0, Math.min(debounceMillis, firstRequestedAt + maxDelayMillis - now));
+                PendingRender next = new PendingRender(firstRequestedAt, latestVersion);
+                next.future = renderExecutor.schedule(() -> render(id, next), delay, TimeUnit.MILLISECONDS);
+                return next;
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 (이후 요청은 다음 변경 시 다시 계산됨)
+            log.warn("stella 재계산 예약 실패 planId: " + planId + " 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 예약된 stella 재계산 (commit된 route를 다시 조회해서 계산)
+     * 실패하면 backoff 후 다시 예약 (그 사이 새 재계산이 예약되었다면 그쪽에서 다시 계산)
+     */
+    private void render(int planId, PendingRender pending) {
+        pendingRenders.remove(planId, pending);
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> writeRender(planId, pending.version)))) {
+                planCardCache.invalidate(planId);
+            }
+        } catch (RuntimeException e) {
+            retryRender(planId, pending, e);
+        }
+    }
+
+    /**
+     * plan 행을 잠근 뒤 route를 조회해서 stella 저장
+     * 여러 서버의 재계산도 plan마다 잠금 순서대로 실행되므로, 나중에 저장하는 쪽이 항상 더 최신 route로 계산함
+     * 저장된 version보다 작은 version으로는 덮어쓰지 않고, 별자리가 같고 version도 이미 반영되었으면 저장하지 않음
+     * @return 저장했으면 true
+     */
+    private boolean writeRender(int planId, long version) {
+        String stored = planDAO.getStellaForUpdate(planId);
+        Long storedVersion = storedVersionOf(stored);
+        ConstellationDTO constellationDTO = buildConstellation(planDAO.getRoutesByPlanId(planId));
+
+        constellationDTO.setVersion(storedVersion);
+        boolean unchanged = encodeStella(constellationDTO).equals(stored);
+        if (unchanged && storedVersion != null && storedVersion >= version) {
+            return false;
+        }
+        constellationDTO.setVersion(storedVersion == null ? version : Math.max(storedVersion, version));
+        planDAO.updateStella(planId, encodeStella(constellationDTO));
+        return true;
+    }
+
+    private Long storedVersionOf(String stored) {
+        if (stored == null || stored.isBlank()) {
+            return null;
+        }
+        try {
+            return ConstellationCodec.decode(stored).getVersion();
+        } catch (IllegalArgumentException e) {
+            // 읽을 수 없는 stella는 새로 계산한 값으로 덮어씀
+            return null;
+        }
+    }
+
+    private void retryRender(int planId, PendingRender failed, RuntimeException cause) {
+        int attempt = failed.attempt + 1;
+        if (attempt > retryMaxAttempts) {
+            log.error("stella 재계산 실패 (재시도 횟수 초과) planId: " + planId + " 에러 메세지: " + cause.getMessage());
+            return;
+        }
+        long delay = Math.min(retryBaseMillis << Math.min(attempt - 1, 20), retryMaxMillis);
+        log.warn("stella 재계산 실패 planId: " + planId + " 재시도: " + attempt + " (" + delay + "ms 후) 에러 메세지: " + cause.getMessage());
+        try {
+            pendingRenders.compute(planId, (id, pending) -> {
+                // 이미 새로 예약된 재계산이 있으면 그쪽이 더 큰 version으로 다시 계산
+                if (pending != null) {
+                    return pending;
+                }
+                PendingRender retry = new PendingRender(System.currentTimeMillis(), failed.version, attempt);
+                retry.future = renderExecutor.schedule(() -> render(id, retry), delay, TimeUnit.MILLISECONDS);
+                return retry;
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("stella 재계산 재시도 예약 실패 planId: " + planId + " 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 이미 예약된 재계산은 그대로 실행하고 끝날 때까지 대기
+     */
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdown();
+        try {
+            if (!renderExecutor.awaitTermination(maxDelayMillis + 5000, TimeUnit.MILLISECONDS)) {
+                renderExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            renderExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PendingRender {
+        private final long firstRequestedAt;
+        private final long version;
+        // 실패 후 재시도 횟수
+        private final int attempt;
+        private ScheduledFuture<?> future;
+
+        private PendingRender(long firstRequestedAt, long version) {
+            this(firstRequestedAt, version, 0);
+        }
+
+        private PendingRender(long firstRequestedAt, long version, int attempt) {
+            this.firstRequestedAt = firstRequestedAt;
+            this.version = version;
+            this.attempt = attempt;
+        }
+    }
+
+    /**
+     * 이미 조회한 route 목록으로 stella 갱신 (route를 다시 조회하지 않음)
+     * transaction 안에서는 plan마다 마지막 결과만 commit 직전에 한 번 저장
+     * @param planId planId
+     * @param routes plan의 전체 route 목록
+     * @param currentStella 같은 요청에서 조회한 DB의 stella (결과가 같으면 저장하지 않음, null이거나 기존 JSON 형식이면 항상 저장)
+     * @return 갱신된 ConstellationDTO
+     */
+    public ConstellationDTO updateStella(int planId, List<RouteDTO> routes, String currentStella) {
+        ConstellationDTO constellationDTO = buildConstellation(routes);
+        String stella = encodeStella(constellationDTO);
+        if (!stella.equals(currentStella)) {
+            writeStella(planId, stella);
+        }
+        return constellationDTO;
+    }
+
+    /**
+     * route 순서대로 위경도를 평면 좌표로 정규화해 별자리 생성
+     */
+    private ConstellationDTO buildConstellation(List<RouteDTO> routes) {
         // 순서 정렬
         routes.sort((o1, o2) -> {
             if (o1.getDayIndex() == o2.getDayIndex()) {
@@ -41,8 +297,6 @@ public class ConstellationService {
         List<AttractionDTO> places = routes.stream().map(RouteDTO::getAttraction).toList();
 
         if(places.isEmpty()) {
-            String json = convertConstellationToJson(new ConstellationDTO());
-            planDAO.updateStella(planId, json);
             return new ConstellationDTO();
         }
 
@@ -78,12 +332,41 @@ public class ConstellationService {
             constellationDTO.addEdge(i - 1, i);
         }
 
-        // 3. 노드와 엣지의 위치를 JSON으로 변환
-        String json = convertConstellationToJson(constellationDTO);
+        return constellationDTO;
+    }
 
-        // 4. JSON을 DB에 저장
-        planDAO.updateStella(planId, json);
+    /**
+     * stella 저장
+     * transaction 안이라면 plan별로 모아 두었다가 commit 직전에 마지막 값만 저장
+     * (한 요청에서 route를 여러 번 바꿔도 UPDATE는 한 번)
+     */
+    private void writeStella(int planId, String stella) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            planDAO.updateStella(planId, stella);
+            planCardCache.invalidate(planId);
+            return;
+        }
 
-        return constellationDTO;
+        @SuppressWarnings("unchecked")
+        Map<Integer, String> pending = (Map<Integer, String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Integer, String> newPending = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, newPending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    newPending.forEach(planDAO::updateStella);
+                    newPending.clear();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ConstellationService.this);
+                }
+            });
+            pending = newPending;
+        }
+        pending.put(planId, stella);
+        planCardCache.invalidate(planId);
     }
 }
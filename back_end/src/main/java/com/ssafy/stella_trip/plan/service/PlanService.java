@@ -1,24 +1,40 @@
 package com.ssafy.stella_trip.plan.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ssafy.stella_trip.attraction.service.SuggestService;
+import com.ssafy.stella_trip.common.dto.CountDTO;
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
 import com.ssafy.stella_trip.common.dto.PageDTO;
+import com.ssafy.stella_trip.common.util.CountCache;
 import com.ssafy.stella_trip.common.util.PaginationUtils;
+import com.ssafy.stella_trip.common.util.ResponseCache;
 import com.ssafy.stella_trip.dao.plan.PlanDAO;
 import com.ssafy.stella_trip.dao.user.UserDAO;
 import com.ssafy.stella_trip.plan.dto.ConstellationDTO;
 import com.ssafy.stella_trip.plan.dto.PlanDTO;
+import com.ssafy.stella_trip.plan.dto.PlanSearchHitDTO;
 import com.ssafy.stella_trip.plan.dto.RouteDTO;
 import com.ssafy.stella_trip.plan.dto.TagDTO;
 import com.ssafy.stella_trip.plan.dto.request.*;
 import com.ssafy.stella_trip.plan.dto.response.*;
 import com.ssafy.stella_trip.plan.exception.*;
+import com.ssafy.stella_trip.plan.util.RouteOptimizer;
+import com.ssafy.stella_trip.search.service.SearchService;
 import com.ssafy.stella_trip.security.dto.JwtUserInfo;
 import com.ssafy.stella_trip.user.dto.UserDTO;
 import com.ssafy.stella_trip.user.dto.response.ActionResponseDTO;
+import com.ssafy.stella_trip.util.LikeCounter;
+import com.ssafy.stella_trip.util.LikedSetCache;
+import com.ssafy.stella_trip.util.PlanCardCache;
+import com.ssafy.stella_trip.util.PlanListHydrator;
 import com.ssafy.stella_trip.util.PlanLockUtil;
+import com.ssafy.stella_trip.util.PlanWriterCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -28,9 +44,20 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PlanService {
 
+    private static final TypeReference<PageDTO<PlanSearchHitDTO>> PLAN_HIT_PAGE = new TypeReference<>() {};
+
     private final PlanDAO planDAO;
     private final UserDAO userDAO;
     private final PlanLockUtil planLockUtil;
+    private final PlanWriterCache planWriterCache;
+    private final PlanListHydrator planListHydrator;
+    private final PlanCardCache planCardCache;
+    private final LikeCounter likeCounter;
+    private final LikedSetCache likedSetCache;
+    private final CountCache countCache;
+    private final ResponseCache responseCache;
+    private final SearchService searchService;
+    private final SuggestService suggestService;
     private final ConstellationService constellationService;
     private final int LOCK_TIMEOUT = 180; // 3분
 
@@ -49,8 +76,40 @@ public class PlanService {
             size = 20;
         }
 
-        // 전체 검색수
-        int totalCount = planDAO.countPlansByCondition(search, userName, minDuration, maxDuration);
+        if (user == null) {
+            // 로그인하지 않은 요청은 조건이 같으면 페이지 구성(plan id, 좋아요 수)도 같으므로 공유
+            // 카드 내용은 요청마다 PlanCardCache에서 채우므로, plan 내용 / stella가 바뀌어도 이 캐시는 무효화하지 않음
+            int pageSize = size;
+            PageDTO<PlanSearchHitDTO> hits = responseCache.get(
+                    ResponseCache.PLAN_SEARCH,
+                    PLAN_HIT_PAGE,
+                    () -> searchPlanHits(page, pageSize, search, userName, minDuration, maxDuration, sort),
+                    search, userName, minDuration, maxDuration, sort, page, size
+            );
+            return toPlanPage(hits, -1);
+        }
+        return toPlanPage(searchPlanHits(page, size, search, userName, minDuration, maxDuration, sort), user.getUserId());
+    }
+
+    private PageDTO<PlanSearchHitDTO> searchPlanHits(
+            int page,
+            int size,
+            String search,
+            String userName,
+            int minDuration,
+            int maxDuration,
+            String sort
+    ){
+        // 제목 / 태그 키워드는 검색 색인에서 id 목록으로 변환 (색인을 쓸 수 없으면 null → LIKE 검색)
+        List<Integer> planIds = searchService.findPlanIds(search);
+
+        // 전체 검색수 (같은 조건의 페이지 이동은 캐시된 개수 사용)
+        CountDTO total = countCache.getOrCount(
+                CountCache.PLAN_SEARCH,
+                () -> planDAO.countPlansByCondition(search, planIds, userName, minDuration, maxDuration),
+                search, userName, minDuration, maxDuration
+        );
+        int totalCount = total.getCount();
         // 전체 페이지 수
         int totalPages = (int) Math.ceil((double) totalCount / size);
         // offset 계산
@@ -62,39 +121,18 @@ public class PlanService {
         // 마지막 페이지 여부
         boolean isLast = (page == totalPages);
 
-        // 검색 결과
-        List<PlanDTO> planDTOList = planDAO.getPlansByCondition(offset, size, search, userName, minDuration, maxDuration, sort, user != null ? user.getUserId() : -1);
-        List<PlanResponseDTO> planResponseDTOList = new ArrayList<>();
-        for (PlanDTO planDTO : planDTOList) {
-            // 태그 리스트
-            List<TagResponseDTO> tagResponseDTOList = convertTagsToResponse(planDTO.getTags());
-
-            // 작성자 리스트
-            List<WriterResponseDTO> writerResponseDTOList = convertWritersToResponse(planDTO.getWriters());
-
-            // PlanResponseDTO 생성
-            PlanResponseDTO planResponseDTO = PlanResponseDTO.builder()
-                    .planId(planDTO.getPlanId())
-                    .title(planDTO.getTitle())
-                    .description(planDTO.getDescription())
-                    .stella(planDTO.getStella())
-                    .startDate(planDTO.getStartDate())
-                    .endDate(planDTO.getEndDate())
-                    .likeCount(planDTO.getLikeCount())
-                    .isPublic(planDTO.isPublic())
-                    .planWriters(writerResponseDTOList)
-                    .tags(tagResponseDTOList)
-                    .liked(planDTO.isLiked())
-                    .build();
-
-            planResponseDTOList.add(planResponseDTO);
-        }
+        // 검색 결과 (plan id, 좋아요 수)
+        List<PlanSearchHitDTO> hits = planDAO.getPlansByCondition(offset, size, search, planIds, userName, minDuration, maxDuration, sort)
+                .stream()
+                .map(plan -> new PlanSearchHitDTO(plan.getPlanId(), plan.getLikeCount()))
+                .toList();
 
-        return PageDTO.<PlanResponseDTO>builder()
-                .content(planResponseDTOList)
+        return PageDTO.<PlanSearchHitDTO>builder()
+                .content(hits)
                 .hasNext(hasNext)
                 .totalPages(totalPages)
                 .totalElements(totalCount)
+                .totalEstimated(total.isEstimated())
                 .page(page)
                 .size(size)
                 .isFirst(isFirst)
@@ -102,6 +140,32 @@ public class PlanService {
                 .build();
     }
 
+    // 검색 결과에 카드 내용 / 좋아요 여부를 채워 응답으로 변환 (캐시된 hits는 수정하지 않음)
+    private PageDTO<PlanResponseDTO> toPlanPage(PageDTO<PlanSearchHitDTO> hits, int userId) {
+        List<PlanDTO> plans = new ArrayList<>();
+        for (PlanSearchHitDTO hit : hits.getContent()) {
+            plans.add(PlanDTO.builder()
+                    .planId(hit.getPlanId())
+                    .likeCount(hit.getLikeCount())
+                    .build());
+        }
+        List<PlanResponseDTO> content = planListHydrator.hydrate(plans, userId).stream()
+                .map(this::convertPlanDTOtoPlanResponseDTO)
+                .toList();
+
+        return PageDTO.<PlanResponseDTO>builder()
+                .content(content)
+                .hasNext(hits.isHasNext())
+                .totalPages(hits.getTotalPages())
+                .totalElements(hits.getTotalElements())
+                .totalEstimated(hits.isTotalEstimated())
+                .page(hits.getPage())
+                .size(hits.getSize())
+                .isFirst(hits.isFirst())
+                .isLast(hits.isLast())
+                .build();
+    }
+
     public PlanDetailResponseDTO getPlanDetail(int planId, JwtUserInfo user) {
         // PlanDTO 가져오기
         PlanDTO planDTO = planDAO.getPlanById(planId, user != null ? user.getUserId() : -1);
@@ -118,6 +182,10 @@ public class PlanService {
             }
         }
 
+        return convertPlanDTOtoPlanDetailResponseDTO(planDTO);
+    }
+
+    private PlanDetailResponseDTO convertPlanDTOtoPlanDetailResponseDTO(PlanDTO planDTO) {
         // 태그 리스트
         List<TagResponseDTO> tagResponseDTOList = convertTagsToResponse(planDTO.getTags());
 
@@ -132,10 +200,11 @@ public class PlanService {
                 .planId(planDTO.getPlanId())
                 .title(planDTO.getTitle())
                 .description(planDTO.getDescription())
-                .stella(planDTO.getStella())
+                .stella(constellationService.toStellaJson(planDTO.getStella()))
+                .stellaVersion(planDTO.getStellaVersion())
                 .startDate(planDTO.getStartDate())
                 .endDate(planDTO.getEndDate())
-                .likeCount(planDTO.getLikeCount())
+                .likeCount(likeCounter.adjust(LikeCounter.Target.PLAN, planDTO.getPlanId(), planDTO.getLikeCount()))
                 .isPublic(planDTO.isPublic())
                 .planWriters(writerResponseDTOList)
                 .tags(tagResponseDTOList)
@@ -148,29 +217,57 @@ public class PlanService {
 
     @Transactional
     public ActionResponseDTO likePlan(int planId, JwtUserInfo user) {
-        if(planDAO.isPlanLikedByUser(planId, user.getUserId())) {
+        if (insertPlanLike(planId, user.getUserId()) == 0) {
+            if (planDAO.getPlanLikeState(planId, user.getUserId()) == null) {
+                throw new PlanNotFoundException("해당 ID의 계획을 찾을 수 없습니다. planId: " + planId);
+            }
             throw new DuplicatedLikeException("이미 좋아요를 누른 계획입니다.");
         }
-        planDAO.likePlan(planId, user.getUserId());
-        planDAO.increaseLikeCount(planId);
+        likeCounter.add(LikeCounter.Target.PLAN, planId, 1);
+        likedSetCache.invalidate(LikeCounter.Target.PLAN, user.getUserId());
         return new ActionResponseDTO( true);
     }
 
     @Transactional
     public ActionResponseDTO unlikePlan(int planId, JwtUserInfo user) {
-        if(!planDAO.isPlanLikedByUser(planId, user.getUserId())) {
+        if (planDAO.unlikePlan(planId, user.getUserId()) == 0) {
             throw new DuplicatedLikeException("이미 좋아요가 없습니다..");
         }
-        planDAO.unlikePlan(planId, user.getUserId());
-        planDAO.decreaseLikeCount(planId);
+        likeCounter.add(LikeCounter.Target.PLAN, planId, -1);
+        likedSetCache.invalidate(LikeCounter.Target.PLAN, user.getUserId());
         return new ActionResponseDTO(true);
 
     }
 
+    /**
+     * 좋아요 상태 지정 (이미 같은 상태면 아무것도 바꾸지 않음)
+     * 추가 / 삭제 결과 행 수로 실제 변경 여부를 판단하므로 중복 요청이 동시에 와도 한 번만 반영됨
+     * @param planId planId
+     * @param liked true면 좋아요, false면 취소
+     * @return 요청 후 좋아요 여부와 좋아요 수
+     */
+    @Transactional
+    public LikeStateDTO setPlanLike(int planId, boolean liked, JwtUserInfo user) {
+        int changed = liked
+                ? insertPlanLike(planId, user.getUserId())
+                : planDAO.unlikePlan(planId, user.getUserId());
+        int delta = changed > 0 ? (liked ? 1 : -1) : 0;
+        if (delta != 0) {
+            likeCounter.add(LikeCounter.Target.PLAN, planId, delta);
+            likedSetCache.invalidate(LikeCounter.Target.PLAN, user.getUserId());
+        }
+
+        LikeStateDTO state = planDAO.getPlanLikeState(planId, user.getUserId());
+        if (state == null) {
+            throw new PlanNotFoundException("해당 ID의 계획을 찾을 수 없습니다. planId: " + planId);
+        }
+        return likeCounter.resolve(LikeCounter.Target.PLAN, planId, state, delta);
+    }
+
     @Transactional
     public LockStatusResponseDTO checkLock(int planId, JwtUserInfo user) {
         // 권한 체크
-        checkPlanAuthority(planId, user);
+        checkWriterAuthority(planId, user);
 
         // redis에서 lock 상태 확인
         Integer val = planLockUtil.checkPlanLock(planId);
@@ -185,7 +282,7 @@ public class PlanService {
     @Transactional
     public LockSuccessResponseDTO lockPlan(int planId, JwtUserInfo user) {
         // 권한 체크
-        checkPlanAuthority(planId, user);
+        checkWriterAuthority(planId, user);
         // 3분 동안 락을 획득
         boolean success = planLockUtil.acquirePlanLock(planId, user.getUserId(), LOCK_TIMEOUT);
 
@@ -195,7 +292,7 @@ public class PlanService {
     @Transactional
     public LockSuccessResponseDTO releaseLock(int planId, JwtUserInfo user) {
         // 권한 체크
-        checkPlanAuthority(planId, user);
+        checkWriterAuthority(planId, user);
 
         // 락 해제
         boolean success = planLockUtil.releasePlanLock(planId, user.getUserId());
@@ -205,8 +302,8 @@ public class PlanService {
 
     @Transactional
     public PlanResponseDTO updatePlanSchedule(int planId, PlanScheduleRequestDTO scheduleRequestDTO, JwtUserInfo user) {
-        // 권한 체크
-        checkPlanAuthority(planId, user);
+        // 권한 체크 (조회한 plan은 응답까지 재사용)
+        PlanDTO plan = checkPlanAuthority(planId, user);
 
         // 락 체크
         Integer lockUserId = planLockUtil.checkPlanLock(planId);
@@ -218,22 +315,28 @@ public class PlanService {
         // 일정 업데이트
         planDAO.updatePlanSchedule(planId, scheduleRequestDTO.getStartDate(), scheduleRequestDTO.getEndDate());
         planDAO.deleteRoutesExceedingDayIndex(planId);
-        try {
-            constellationService.updateStella(planId);
-        } catch (JsonProcessingException e) {
-            throw new StellaErrorException("Stella 업데이트 중 오류가 발생했습니다.");
+        countCache.invalidate(CountCache.PLAN_SEARCH);
+        // 기간 조건 검색 결과가 바뀌는 것은 공개 plan뿐
+        if (plan.isPublic()) {
+            responseCache.invalidate(ResponseCache.PLAN_SEARCH);
         }
-
-        return getPlanDetail(planId, user); // 업데이트된 계획을 가져오기 위해 다시 호출
+        planCardCache.invalidate(planId);
+        plan.setStartDate(scheduleRequestDTO.getStartDate());
+        plan.setEndDate(scheduleRequestDTO.getEndDate());
+
+        // 삭제된 route만 빼고 stella 갱신
+        long days = ChronoUnit.DAYS.between(plan.getStartDate(), plan.getEndDate()) + 1;
+        plan.getRoutes().removeIf(route -> route.getDayIndex() > days);
+        updateStella(plan);
+        return convertPlanDTOtoPlanDetailResponseDTO(plan);
     }
 
     @Transactional
     public PlanResponseDTO addAttraction(int planId, RouteInsertRequestDTO routeInsertRequestDTO, JwtUserInfo user) {
-        // 권한 체크
-        checkPlanAuthority(planId, user);
+        // 권한 체크 (조회한 plan은 응답까지 재사용)
+        PlanDTO plan = checkPlanAuthority(planId, user);
 
         // day index 체크
-        PlanDTO plan = planDAO.getPlanById(planId, user.getUserId());
         long dateDiff = ChronoUnit.DAYS.between(plan.getStartDate(), plan.getEndDate());
         if (routeInsertRequestDTO.getDayIndex() < 1 || routeInsertRequestDTO.getDayIndex() > dateDiff + 1) {
             throw new IllegalDayIndexException("유효하지 않은 day index입니다. day index: " + routeInsertRequestDTO.getDayIndex());
@@ -251,27 +354,26 @@ public class PlanService {
         }
 
         // 일정 추가
-        planDAO.insertRoute(
-                planId,
-                routeInsertRequestDTO.getAttractionId(),
-                routeInsertRequestDTO.getDayIndex(),
-                insertOrder,
-                routeInsertRequestDTO.getVisitTime(),
-                routeInsertRequestDTO.getMemo()
-        );
-        try {
-            constellationService.updateStella(planId);
-        } catch (JsonProcessingException e) {
-            throw new StellaErrorException("Stella 업데이트 중 오류가 발생했습니다.");
-        }
+        RouteDTO insertingRoute = RouteDTO.builder()
+                .planId(planId)
+                .attractionId(routeInsertRequestDTO.getAttractionId())
+                .dayIndex(routeInsertRequestDTO.getDayIndex())
+                .order(insertOrder)
+                .visitTime(routeInsertRequestDTO.getVisitTime())
+                .memo(routeInsertRequestDTO.getMemo())
+                .build();
+        planDAO.insertRoute(insertingRoute);
 
-        return getPlanDetail(planId, user); // 업데이트된 계획을 가져오기 위해 다시 호출
+        // 추가된 route만 조회해서 반영하고 stella 갱신
+        plan.getRoutes().add(planDAO.getRouteByRouteId(insertingRoute.getRouteId()));
+        updateStella(plan);
+        return convertPlanDTOtoPlanDetailResponseDTO(plan);
     }
 
     @Transactional
     public PlanResponseDTO updatePlanRoutes(int planId, RoutesUpdateRequestDTO routesUpdateRequestDTO, JwtUserInfo user) {
-        // 권한 체크
-        checkPlanAuthority(planId, user);
+        // 권한 체크 (조회한 plan은 응답까지 재사용)
+        PlanDTO plan = checkPlanAuthority(planId, user);
 
         // 락 체크
         Integer lockUserId = planLockUtil.checkPlanLock(planId);
@@ -286,17 +388,24 @@ public class PlanService {
         planLockUtil.acquirePlanLock(planId, user.getUserId(), LOCK_TIMEOUT);
 
         // 일정 범위 체크
-        PlanDTO plan = planDAO.getPlanById(planId, user.getUserId());
         long dateDiff = ChronoUnit.DAYS.between(plan.getStartDate(), plan.getEndDate());
 
-        // 루트 업데이트
+        // 루트 업데이트 (조회해 둔 plan의 route에도 같이 반영)
+        Map<Integer, RouteDTO> planRoutes = new HashMap<>();
+        plan.getRoutes().forEach(route -> planRoutes.put(route.getRouteId(), route));
+        boolean unknownRoute = false;
         List<RouteDTO> deletingRoutes = new ArrayList<>();
         for (RoutesUpdateRequestDTO.RouteDTO route : routesUpdateRequestDTO.getRoutes()) {
+            RouteDTO planRoute = planRoutes.get(route.getRouteId());
+            unknownRoute |= planRoute == null;
             if(route.isDeleted()){
                 RouteDTO routeDTO = RouteDTO.builder()
                         .routeId(route.getRouteId())
                         .build();
                 deletingRoutes.add(routeDTO);
+                if (planRoute != null) {
+                    plan.getRoutes().remove(planRoute);
+                }
             }else{
                 if (route.getDayIndex() < 1 || route.getDayIndex() > dateDiff + 1) {
                     throw new IllegalDayIndexException("유효하지 않은 day index입니다. day index: " + route.getDayIndex());
@@ -307,30 +416,113 @@ public class PlanService {
                         .order(route.getOrder())
                         .build();
                 planDAO.updateRoute(routeDTO);
+                if (planRoute != null) {
+                    planRoute.setDayIndex(route.getDayIndex());
+                    planRoute.setOrder(route.getOrder());
+                }
             }
         }
         if(!deletingRoutes.isEmpty()) {
             planDAO.deleteRoutes(deletingRoutes);
         }
-        try {
-            constellationService.updateStella(planId);
-        } catch (JsonProcessingException e) {
-            throw new StellaErrorException("Stella 업데이트 중 오류가 발생했습니다.");
+
+        // 조회해 둔 plan에 없는 route id가 섞여 있으면 메모리 반영 대신 다시 조회
+        if (unknownRoute) {
+            plan.setRoutes(planDAO.getRoutesByPlanId(planId));
         }
+        updateStella(plan);
 
         planLockUtil.releasePlanLock(planId, user.getUserId()); // 락 해제
-        return getPlanDetail(planId, user); // 업데이트된 계획을 가져오기 위해 다시 호출
+        return convertPlanDTOtoPlanDetailResponseDTO(plan);
     }
 
+    /**
+     * 날짜별 방문 순서를 이동 거리가 짧아지도록 재배치
+     * 순서가 바뀐 route만 수정하고, stella는 기존 route 변경과 같은 경로로 다시 계산
+     * 수정 중에 다른 사용자가 route를 바꾸지 못하도록 lock을 잡고, 직접 잡은 lock은 transaction이 끝난 뒤 해제
+     * (사용자가 이미 잡고 있던 lock은 연장만 하고 유지)
+     * @param planId planId
+     * @param routeOptimizeRequestDTO 대상 날짜 (없으면 전체), 첫 / 마지막 장소 고정 여부
+     * @param user 사용자
+     * @return 변경된 plan
+     */
     @Transactional
-    public PlanResponseDTO addPlan(PlanRequestDTO planRequestDTO, JwtUserInfo user) {
-        String stella = "";
-        try {
-            stella = constellationService.convertConstellationToJson(new ConstellationDTO());
-        } catch (JsonProcessingException e) {
-            throw new StellaErrorException("Stella 업데이트 중 오류가 발생했습니다.");
+    public PlanResponseDTO optimizePlanRoutes(int planId, RouteOptimizeRequestDTO routeOptimizeRequestDTO, JwtUserInfo user) {
+        // 권한 체크 (조회한 plan은 응답까지 재사용)
+        PlanDTO plan = checkPlanAuthority(planId, user);
+
+        // 다른 사용자가 수정 중이면 순서를 바꾸지 않음
+        boolean lockHeld = Objects.equals(planLockUtil.checkPlanLock(planId), user.getUserId());
+        if(!planLockUtil.acquirePlanLock(planId, user.getUserId(), LOCK_TIMEOUT)) {
+            throw new LockedPlanException("해당 계획은 다른 사용자에 의해 Lock 되어 있습니다. planId: " + planId);
+        }
+        if(!lockHeld) {
+            releasePlanLockAfterCompletion(planId, user.getUserId());
+        }
+
+        Integer dayIndex = routeOptimizeRequestDTO.getDayIndex();
+        long dateDiff = ChronoUnit.DAYS.between(plan.getStartDate(), plan.getEndDate());
+        if (dayIndex != null && (dayIndex < 1 || dayIndex > dateDiff + 1)) {
+            throw new IllegalDayIndexException("유효하지 않은 day index입니다. day index: " + dayIndex);
+        }
+
+        // 날짜별 현재 순서
+        Map<Integer, List<RouteDTO>> routesByDay = new TreeMap<>();
+        for (RouteDTO route : plan.getRoutes()) {
+            if (dayIndex == null || route.getDayIndex() == dayIndex) {
+                routesByDay.computeIfAbsent(route.getDayIndex(), k -> new ArrayList<>()).add(route);
+            }
+        }
+
+        boolean changed = false;
+        for (List<RouteDTO> routes : routesByDay.values()) {
+            routes.sort(Comparator.comparingInt(RouteDTO::getOrder).thenComparingInt(RouteDTO::getRouteId));
+            double[] latitudes = new double[routes.size()];
+            double[] longitudes = new double[routes.size()];
+            for (int i = 0; i < routes.size(); i++) {
+                latitudes[i] = routes.get(i).getAttraction().getLatitude();
+                longitudes[i] = routes.get(i).getAttraction().getLongitude();
+            }
+
+            int[] path = RouteOptimizer.optimize(latitudes, longitudes, routeOptimizeRequestDTO.isFixStart(), routeOptimizeRequestDTO.isFixEnd());
+            for (int i = 0; i < path.length; i++) {
+                RouteDTO route = routes.get(path[i]);
+                if (route.getOrder() != i + 1) {
+                    planDAO.updateRoute(RouteDTO.builder()
+                            .routeId(route.getRouteId())
+                            .dayIndex(route.getDayIndex())
+                            .order(i + 1)
+                            .build());
+                    route.setOrder(i + 1);
+                    changed = true;
+                }
+            }
         }
 
+        if (changed) {
+            updateStella(plan);
+        }
+        return convertPlanDTOtoPlanDetailResponseDTO(plan);
+    }
+
+    // commit 전에 lock을 풀면 다른 사용자가 commit 전 route를 읽고 덮어쓸 수 있으므로 transaction이 끝난 뒤 해제
+    private void releasePlanLockAfterCompletion(int planId, int userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            planLockUtil.releasePlanLock(planId, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                planLockUtil.releasePlanLock(planId, userId);
+            }
+        });
+    }
+
+    @Transactional
+    public PlanResponseDTO addPlan(PlanRequestDTO planRequestDTO, JwtUserInfo user) {
+        String stella = constellationService.encodeStella(new ConstellationDTO());
+
         // 계획 추가
         PlanDTO planDTO = PlanDTO.builder()
                 .title(planRequestDTO.getTitle())
@@ -346,10 +538,14 @@ public class PlanService {
         if (planRequestDTO.getTags() != null && !planRequestDTO.getTags().isEmpty()) {
             planDAO.insertTags(planRequestDTO.getTags());
             planDAO.linkTagsToPlan(planDTO.getPlanId(), planRequestDTO.getTags());
+            suggestService.onTagsChanged();
         }
 
         // 작성자 추가
         planDAO.insertPlanWriter(planDTO.getPlanId(), user.getUserId());
+        planWriterCache.invalidate(planDTO.getPlanId());
+        invalidatePlanCounts(user.getUserId());
+        searchService.refreshPlan(planDTO.getPlanId());
 
         return getPlanDetail(planDTO.getPlanId(), user); // 생성된 계획을 가져오기 위해 다시 호출
     }
@@ -357,14 +553,18 @@ public class PlanService {
     @Transactional
     public Boolean leavePlan(int planId, JwtUserInfo user) {
         // 권한 체크
-        checkPlanAuthority(planId, user);
+        checkWriterAuthority(planId, user);
 
         // 계획에서 나가기
         planDAO.deletePlanWriter(planId, user.getUserId());
+        planWriterCache.invalidate(planId);
+        planCardCache.invalidate(planId);
+        invalidatePlanCounts(user.getUserId());
 
         // 작성자가 없으면 계획 삭제
         if (planDAO.getPlanWritersCount(planId) == 0) {
             planDAO.deletePlan(planId);
+            searchService.refreshPlan(planId);
             return true;
         }
         return true;
@@ -373,7 +573,7 @@ public class PlanService {
     @Transactional
     public Boolean invitePlan(int planId, String email, JwtUserInfo user) {
         // 권한 체크
-        checkPlanAuthority(planId, user);
+        checkWriterAuthority(planId, user);
 
         // 이메일로 사용자 찾기
         UserDTO invitedUser = userDAO.getUserByEmail(email);
@@ -381,20 +581,27 @@ public class PlanService {
             throw new UserNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다. email: " + email);
         }
 
-        // 이미 초대된 사용자 체크
+        // 이미 초대된 사용자 체크 (캐시는 잠시 이전 값일 수 있으므로 DB로 확인)
         if (planDAO.checkPlanWriter(planId, invitedUser.getUserId())) {
             throw new DuplicatedWriterException("이미 초대된 사용자입니다. email: " + email);
         }
 
-        // 초대하기
-        planDAO.insertPlanWriter(planId, invitedUser.getUserId());
+        // 초대하기 (동시에 같은 사용자를 초대한 경우)
+        try {
+            planDAO.insertPlanWriter(planId, invitedUser.getUserId());
+        } catch (DuplicateKeyException e) {
+            throw new DuplicatedWriterException("이미 초대된 사용자입니다. email: " + email);
+        }
+        planWriterCache.invalidate(planId);
+        planCardCache.invalidate(planId);
+        invalidatePlanCounts(invitedUser.getUserId());
         return true;
     }
 
     @Transactional
     public PlanResponseDTO updatePlan(int planId, BasicPlanRequestDTO basicPlanRequestDTO, JwtUserInfo user) {
-        // 권한 체크
-        checkPlanAuthority(planId, user);
+        // 권한 체크 (조회한 plan은 응답까지 재사용)
+        PlanDTO plan = checkPlanAuthority(planId, user);
 
         planDAO.updateBasicPlanInfo(
                 planId,
@@ -402,14 +609,25 @@ public class PlanService {
                 basicPlanRequestDTO.getDescription(),
                 basicPlanRequestDTO.isPublic()
         );
-
-        return getPlanDetail(planId, user); // 생성된 계획을 가져오기 위해 다시 호출
+        countCache.invalidate(CountCache.PLAN_SEARCH);
+        // 제목 검색 / 공개 여부로 검색 결과가 바뀌는 것은 변경 전후 중 한 번이라도 공개였던 plan뿐
+        if (plan.isPublic() || basicPlanRequestDTO.isPublic()) {
+            responseCache.invalidate(ResponseCache.PLAN_SEARCH);
+        }
+        searchService.refreshPlan(planId);
+        planCardCache.invalidate(planId);
+
+        // 기본 정보만 바뀌었으므로 다시 조회하지 않고 반영
+        plan.setTitle(basicPlanRequestDTO.getTitle());
+        plan.setDescription(basicPlanRequestDTO.getDescription());
+        plan.setPublic(basicPlanRequestDTO.isPublic());
+        return convertPlanDTOtoPlanDetailResponseDTO(plan);
     }
 
     @Transactional
     public RouteResponseDTO updateRoute(int planId, int routeId, RouteUpdateRequestDTO routeUpdateRequestDTO, JwtUserInfo user) {
         // 권한 체크
-        checkPlanAuthority(planId, user);
+        checkWriterAuthority(planId, user);
         RouteDTO route = planDAO.getRouteByRouteId(routeId);
         if (route == null) {
             throw new RouteNotFoundException("해당 ID의 루트를 찾을 수 없습니다. routeId: " + routeId);
@@ -435,11 +653,38 @@ public class PlanService {
         return PaginationUtils.getPagedResult(
                 page,
                 size,
-                () -> planDAO.countPlansByWriterId(user.getUserId()),
-                (offset, pageSize) -> planDAO.getPlansByWriterId(user.getUserId(), offset, pageSize),
+                countCache.getOrCount(
+                        CountCache.PLAN_WRITER,
+                        () -> planDAO.countPlansByWriterId(user.getUserId()),
+                        user.getUserId()
+                ),
+                (offset, pageSize) -> planListHydrator.hydrate(planDAO.getPlansByWriterId(user.getUserId(), offset, pageSize), user.getUserId()),
                 this::convertPlanDTOtoPlanResponseDTO);
     }
 
+    /**
+     * 작성자 변경 시 COUNT / 응답 캐시 무효화
+     * 공개 plan 검색은 작성자 이름 조건이 있으므로 전체를, 내 plan 수는 변경된 사용자만 지움
+     * @param userId 작성자로 추가 / 제거된 사용자
+     */
+    private void invalidatePlanCounts(int userId) {
+        countCache.invalidate(CountCache.PLAN_SEARCH);
+        responseCache.invalidate(ResponseCache.PLAN_SEARCH);
+        countCache.invalidate(CountCache.PLAN_WRITER, userId);
+    }
+
+    /**
+     * plan 좋아요 추가
+     * @return 추가된 행 수 (이미 좋아요했거나 plan이 없으면 0, 같은 사용자의 동시 요청으로 중복 키 오류가 나도 0)
+     */
+    private int insertPlanLike(int planId, int userId) {
+        try {
+            return planDAO.likePlan(planId, userId);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+
     private PlanResponseDTO convertPlanDTOtoPlanResponseDTO(PlanDTO planDTO) {
         // 태그 리스트
         List<TagResponseDTO> tagResponseDTOList = convertTagsToResponse(planDTO.getTags());
@@ -452,6 +697,7 @@ public class PlanService {
                 .planId(planDTO.getPlanId())
                 .title(planDTO.getTitle())
                 .description(planDTO.getDescription())
+                // 목록은 PlanListHydrator에서 응답용 JSON으로 채워짐
                 .stella(planDTO.getStella())
                 .startDate(planDTO.getStartDate())
                 .endDate(planDTO.getEndDate())
@@ -463,7 +709,11 @@ public class PlanService {
                 .build();
     }
 
-    private void checkPlanAuthority(int planId, JwtUserInfo user) throws PlanNotFoundException, UnauthorizedPlanAccessException{
+    /**
+     * plan 작성자 권한 체크
+     * @return 권한 체크에 사용한 plan (같은 요청 안에서 다시 조회하지 않고 재사용)
+     */
+    private PlanDTO checkPlanAuthority(int planId, JwtUserInfo user) throws PlanNotFoundException, UnauthorizedPlanAccessException{
         if(user == null) {
             throw new UnauthorizedPlanAccessException("로그인이 필요합니다.");
         }
@@ -478,6 +728,42 @@ public class PlanService {
         if (planDTO.getWriters().stream().allMatch(writer -> writer.getUserId() != user.getUserId())) {
             throw new UnauthorizedPlanAccessException("해당 계획에 대한 접근 권한이 없습니다. planId: " + planId);
         }
+        return planDTO;
+    }
+
+    /**
+     * plan 작성자 권한 체크 (plan을 조회하지 않고 작성자 집합만 확인)
+     * plan 내용이 필요 없는 lock / 초대 / 나가기 등에서 사용
+     */
+    private void checkWriterAuthority(int planId, JwtUserInfo user) throws PlanNotFoundException, UnauthorizedPlanAccessException {
+        if(user == null) {
+            throw new UnauthorizedPlanAccessException("로그인이 필요합니다.");
+        }
+
+        // 작성자가 없는 plan은 삭제되므로, 작성자 집합이 비어 있으면 존재하지 않는 plan
+        Set<Integer> writerIds = planWriterCache.getWriterIds(planId);
+        if(writerIds.isEmpty()) {
+            throw new PlanNotFoundException("해당 ID의 계획을 찾을 수 없습니다. planId: " + planId);
+        }
+
+        if(!writerIds.contains(user.getUserId())) {
+            throw new UnauthorizedPlanAccessException("해당 계획에 대한 접근 권한이 없습니다. planId: " + planId);
+        }
+    }
+
+    /**
+     * route 변경 후 stella 갱신
+     * 비동기(plan.stella.async-enabled)면 commit 이후 재계산만 예약하고, 응답에는 기존 stella와 예약한 version을 담음
+     * 아니면 route 변경을 반영한 plan으로 바로 계산 (결과가 조회 시점의 stella와 다를 때만 commit 직전에 한 번 저장)
+     * @param plan 같은 요청에서 조회하고 route 변경을 반영한 plan
+     */
+    private void updateStella(PlanDTO plan) {
+        if (constellationService.isAsyncEnabled()) {
+            plan.setStellaVersion(constellationService.requestStella(plan.getPlanId()));
+            return;
+        }
+        ConstellationDTO constellation = constellationService.updateStella(plan.getPlanId(), plan.getRoutes(), plan.getStella());
+        plan.setStella(constellationService.encodeStella(constellation));
     }
 
     private List<TagResponseDTO> convertTagsToResponse(List<TagDTO> tags) {
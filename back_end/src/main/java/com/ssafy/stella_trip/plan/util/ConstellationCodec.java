@@ -0,0 +1,224 @@
+package com.ssafy.stella_trip.plan.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.stella_trip.plan.dto.ConstellationDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * plan.stella 저장 형식
+ * [형식 version 1byte][flag 1byte][이름 목록][노드][엣지][stella version] 을 base64로 바꿔 JSON 문자열("...")로 저장 (JSON 컬럼에도 저장 가능)
+ * - 이름은 중복 없이 한 번만 저장하고 노드는 이름 번호로 참조
+ * - 좌표는 이전 노드와의 차이를 zigzag varint로 저장
+ * - 엣지가 0-1, 1-2, ... 순서대로 이어진 경우(route 순서)면 생략
+ * '{'로 시작하는 기존 JSON 형식도 그대로 읽음
+ */
+public class ConstellationCodec {
+
+    public static final int FORMAT_VERSION = 1;
+    private static final int FLAG_SEQUENTIAL_EDGES = 1;
+    private static final int FLAG_VERSION = 1 << 1;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConstellationCodec() {
+    }
+
+    /**
+     * @param constellationDTO 별자리
+     * @return 저장할 문자열
+     */
+    public static String encode(ConstellationDTO constellationDTO) {
+        List<ConstellationDTO.Node> nodes = constellationDTO.getNodes();
+        List<ConstellationDTO.Edge> edges = constellationDTO.getEdges();
+        boolean sequentialEdges = isSequential(nodes.size(), edges);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(FORMAT_VERSION);
+        out.write((sequentialEdges ? FLAG_SEQUENTIAL_EDGES : 0) | (constellationDTO.getVersion() != null ? FLAG_VERSION : 0));
+
+        // 이름 목록 (처음 나온 순서)
+        Map<String, Integer> nameIndexes = new LinkedHashMap<>();
+        for (ConstellationDTO.Node node : nodes) {
+            nameIndexes.putIfAbsent(nameOf(node), nameIndexes.size());
+        }
+        writeVarint(out, nameIndexes.size());
+        for (String name : nameIndexes.keySet()) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        // 노드 (이름 번호, 이전 노드와의 좌표 차이)
+        writeVarint(out, nodes.size());
+        int x = 0;
+        int y = 0;
+        for (ConstellationDTO.Node node : nodes) {
+            writeVarint(out, nameIndexes.get(nameOf(node)));
+            writeVarint(out, zigzag(node.getX() - x));
+            writeVarint(out, zigzag(node.getY() - y));
+            x = node.getX();
+            y = node.getY();
+        }
+
+        if (!sequentialEdges) {
+            writeVarint(out, edges.size());
+            for (ConstellationDTO.Edge edge : edges) {
+                writeVarint(out, edge.getFrom());
+                writeVarint(out, edge.getTo());
+            }
+        }
+        if (constellationDTO.getVersion() != null) {
+            writeVarint(out, constellationDTO.getVersion());
+        }
+        return '"' + Base64.getEncoder().withoutPadding().encodeToString(out.toByteArray()) + '"';
+    }
+
+    /**
+     * @param stored 저장된 문자열 (압축 형식 또는 기존 JSON)
+     * @return 별자리
+     * @throws IllegalArgumentException 읽을 수 없는 형식
+     */
+    public static ConstellationDTO decode(String stored) {
+        String value = stored == null ? "" : stored.trim();
+        if (isLegacyJson(value)) {
+            try {
+                return objectMapper.readValue(value, ConstellationDTO.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("stella JSON을 읽을 수 없습니다.", e);
+            }
+        }
+        if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new IllegalArgumentException("stella 형식이 아닙니다.");
+        }
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Base64.getDecoder().decode(value.substring(1, value.length() - 1)));
+            int formatVersion = in.get() & 0xFF;
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 stella 형식 version: " + formatVersion);
+            }
+            int flags = in.get() & 0xFF;
+
+            String[] names = new String[readSize(in)];
+            for (int i = 0; i < names.length; i++) {
+                byte[] bytes = new byte[readSize(in)];
+                in.get(bytes);
+                names[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            ConstellationDTO constellationDTO = new ConstellationDTO();
+            int nodeCount = readSize(in);
+            int x = 0;
+            int y = 0;
+            for (int i = 0; i < nodeCount; i++) {
+                String name = names[readSize(in)];
+                x += unzigzag(readVarint(in));
+                y += unzigzag(readVarint(in));
+                constellationDTO.addNode(name, x, y);
+            }
+
+            if ((flags & FLAG_SEQUENTIAL_EDGES) != 0) {
+                for (int i = 1; i < nodeCount; i++) {
+                    constellationDTO.addEdge(i - 1, i);
+                }
+            } else {
+                int edgeCount = readSize(in);
+                List<ConstellationDTO.Edge> edges = new ArrayList<>(edgeCount);
+                for (int i = 0; i < edgeCount; i++) {
+                    edges.add(new ConstellationDTO.Edge(readSize(in), readSize(in)));
+                }
+                constellationDTO.setEdges(edges);
+            }
+            if ((flags & FLAG_VERSION) != 0) {
+                constellationDTO.setVersion(readVarint(in));
+            }
+            return constellationDTO;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("stella 데이터가 손상되었습니다.", e);
+        }
+    }
+
+    /**
+     * 응답용 JSON ({"nodes": [...], "edges": [...]})
+     * 기존 JSON 형식은 다시 변환하지 않고 그대로 반환
+     * @throws IllegalArgumentException 읽을 수 없는 형식
+     */
+    public static String toJson(String stored) {
+        if (isLegacyJson(stored == null ? "" : stored.trim())) {
+            return stored;
+        }
+        try {
+            return objectMapper.writeValueAsString(decode(stored));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("stella를 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private static boolean isLegacyJson(String value) {
+        return value.startsWith("{");
+    }
+
+    private static boolean isSequential(int nodeCount, List<ConstellationDTO.Edge> edges) {
+        if (edges.size() != Math.max(0, nodeCount - 1)) {
+            return false;
+        }
+        for (int i = 0; i < edges.size(); i++) {
+            if (edges.get(i).getFrom() != i || edges.get(i).getTo() != i + 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String nameOf(ConstellationDTO.Node node) {
+        return node.getName() == null ? "" : node.getName();
+    }
+
+    private static long zigzag(int value) {
+        return ((long) value << 1) ^ ((long) value >> 63);
+    }
+
+    private static int unzigzag(long value) {
+        return (int) ((value >>> 1) ^ -(value & 1));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("stella 데이터가 손상되었습니다.");
+    }
+
+    /**
+     * 개수 / 번호 (남은 byte 수보다 큰 값은 손상된 데이터)
+     */
+    private static int readSize(ByteBuffer in) {
+        long value = readVarint(in);
+        if (value < 0 || value > in.capacity()) {
+            throw new IllegalArgumentException("stella 데이터가 손상되었습니다.");
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,251 @@
+package com.ssafy.stella_trip.plan.util;
+
+import com.ssafy.stella_trip.search.util.GeoGridIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 하루 일정의 방문 순서 최적화 (시작과 끝이 열린 경로의 TSP 근사)
+ * 최근접 이웃으로 초기 경로를 만든 뒤 2-opt(구간 뒤집기)와 Or-opt(1~3개 구간 옮기기)로 더 줄지 않을 때까지 개선
+ * 거리는 haversine으로 미리 계산한 행렬을 사용
+ */
+public class RouteOptimizer {
+
+    private static final double EPSILON = 1e-6;
+    private static final int MAX_SEGMENT_LENGTH = 3;
+    private static final int MAX_ROUNDS = 100;
+    private static final int MAX_IMPROVED_STARTS = 3;
+
+    private final int n;
+    private final double[] distances;
+    private final boolean fixStart;
+    private final boolean fixEnd;
+
+    private RouteOptimizer(double[] latitudes, double[] longitudes, boolean fixStart, boolean fixEnd) {
+        this.n = latitudes.length;
+        this.distances = new double[n * n];
+        this.fixStart = fixStart;
+        this.fixEnd = fixEnd;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double distance = GeoGridIndex.distanceMeters(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+                distances[i * n + j] = distance;
+                distances[j * n + i] = distance;
+            }
+        }
+    }
+
+    /**
+     * @param latitudes 현재 순서대로의 위도
+     * @param longitudes 현재 순서대로의 경도
+     * @param fixStart true면 첫 장소를 그대로 시작점으로 둠
+     * @param fixEnd true면 마지막 장소를 그대로 끝점으로 둠
+     * @return 새 방문 순서 (현재 순서의 index)
+     */
+    public static int[] optimize(double[] latitudes, double[] longitudes, boolean fixStart, boolean fixEnd) {
+        RouteOptimizer optimizer = new RouteOptimizer(latitudes, longitudes, fixStart, fixEnd);
+        int[] path = identity(optimizer.n);
+        if (optimizer.n <= 2) {
+            return path;
+        }
+
+        // 시작점이 자유면 모든 시작점에서 최근접 이웃을 만들고, 그중 짧은 몇 개만 개선
+        int starts = fixStart ? 1 : optimizer.n - (fixEnd ? 1 : 0);
+        List<int[]> candidates = new ArrayList<>(starts);
+        for (int start = 0; start < starts; start++) {
+            candidates.add(optimizer.nearestNeighbor(start));
+        }
+        candidates.sort(Comparator.comparingDouble(optimizer::length));
+
+        int[] best = path;
+        double bestLength = optimizer.length(path);
+        for (int[] candidate : candidates.subList(0, Math.min(MAX_IMPROVED_STARTS, candidates.size()))) {
+            optimizer.improve(candidate);
+            double candidateLength = optimizer.length(candidate);
+            if (candidateLength < bestLength - EPSILON) {
+                best = candidate;
+                bestLength = candidateLength;
+            }
+        }
+        // 기존 순서도 개선해서 비교 (이미 좋은 순서였다면 불필요하게 바뀌지 않도록)
+        optimizer.improve(path);
+        return optimizer.length(path) <= bestLength + EPSILON ? path : best;
+    }
+
+    /**
+     * 경로 전체 거리 (m)
+     */
+    public static double length(double[] latitudes, double[] longitudes, int[] path) {
+        return new RouteOptimizer(latitudes, longitudes, false, false).length(path);
+    }
+
+    private double length(int[] path) {
+        double length = 0;
+        for (int i = 1; i < path.length; i++) {
+            length += distance(path[i - 1], path[i]);
+        }
+        return length;
+    }
+
+    private int[] nearestNeighbor(int start) {
+        int[] path = new int[n];
+        boolean[] visited = new boolean[n];
+        path[0] = start;
+        visited[start] = true;
+        // 끝점이 고정이면 마지막 자리에 남겨 둠
+        int last = n - 1;
+        if (fixEnd) {
+            path[last] = last;
+            visited[last] = true;
+        }
+        int to = fixEnd ? last - 1 : last;
+        for (int i = 1; i <= to; i++) {
+            int current = path[i - 1];
+            int next = -1;
+            for (int j = 0; j < n; j++) {
+                if (!visited[j] && (next < 0 || distance(current, j) < distance(current, next))) {
+                    next = j;
+                }
+            }
+            path[i] = next;
+            visited[next] = true;
+        }
+        return path;
+    }
+
+    private void improve(int[] path) {
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            boolean improved = twoOpt(path);
+            improved |= orOpt(path);
+            if (!improved) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * path[i..j] 뒤집기
+     */
+    private boolean twoOpt(int[] path) {
+        boolean improved = false;
+        int first = fixStart ? 1 : 0;
+        int last = fixEnd ? n - 2 : n - 1;
+        for (int i = first; i < last; i++) {
+            for (int j = i + 1; j <= last; j++) {
+                double before = 0;
+                double after = 0;
+                if (i > 0) {
+                    before += distance(path[i - 1], path[i]);
+                    after += distance(path[i - 1], path[j]);
+                }
+                if (j < n - 1) {
+                    before += distance(path[j], path[j + 1]);
+                    after += distance(path[i], path[j + 1]);
+                }
+                if (after < before - EPSILON) {
+                    reverse(path, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * 연속된 1~3개 구간을 다른 위치로 옮기기 (뒤집어서 넣는 경우 포함)
+     */
+    private boolean orOpt(int[] path) {
+        boolean improved = false;
+        int first = fixStart ? 1 : 0;
+        int last = fixEnd ? n - 2 : n - 1;
+        for (int length = 1; length <= MAX_SEGMENT_LENGTH; length++) {
+            for (int i = first; i + length - 1 <= last; i++) {
+                if (length == n) {
+                    break;
+                }
+                if (moveSegment(path, i, length)) {
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    private boolean moveSegment(int[] path, int i, int length) {
+        int segmentFirst = path[i];
+        int segmentLast = path[i + length - 1];
+        int prev = i > 0 ? path[i - 1] : -1;
+        int next = i + length < n ? path[i + length] : -1;
+
+        double removeGain = (prev >= 0 ? distance(prev, segmentFirst) : 0)
+                + (next >= 0 ? distance(segmentLast, next) : 0)
+                - (prev >= 0 && next >= 0 ? distance(prev, next) : 0);
+
+        // 구간을 뺀 나머지 경로
+        int[] rest = new int[n - length];
+        System.arraycopy(path, 0, rest, 0, i);
+        System.arraycopy(path, i + length, rest, i, n - i - length);
+
+        // k: rest[k - 1]과 rest[k] 사이에 삽입 (0이면 맨 앞, rest.length면 맨 뒤)
+        int bestPosition = -1;
+        boolean bestReversed = false;
+        double bestGain = EPSILON;
+        int from = fixStart ? 1 : 0;
+        int to = fixEnd ? rest.length - 1 : rest.length;
+        for (int k = from; k <= to; k++) {
+            if (k == i) {
+                continue;
+            }
+            int left = k > 0 ? rest[k - 1] : -1;
+            int right = k < rest.length ? rest[k] : -1;
+            double base = left >= 0 && right >= 0 ? distance(left, right) : 0;
+            double forward = (left >= 0 ? distance(left, segmentFirst) : 0) + (right >= 0 ? distance(segmentLast, right) : 0) - base;
+            double backward = (left >= 0 ? distance(left, segmentLast) : 0) + (right >= 0 ? distance(segmentFirst, right) : 0) - base;
+            if (removeGain - forward > bestGain) {
+                bestGain = removeGain - forward;
+                bestPosition = k;
+                bestReversed = false;
+            }
+            if (length > 1 && removeGain - backward > bestGain) {
+                bestGain = removeGain - backward;
+                bestPosition = k;
+                bestReversed = true;
+            }
+        }
+        if (bestPosition < 0) {
+            return false;
+        }
+
+        int[] segment = new int[length];
+        System.arraycopy(path, i, segment, 0, length);
+        if (bestReversed) {
+            reverse(segment, 0, length - 1);
+        }
+        System.arraycopy(rest, 0, path, 0, bestPosition);
+        System.arraycopy(segment, 0, path, bestPosition, length);
+        System.arraycopy(rest, bestPosition, path, bestPosition + length, rest.length - bestPosition);
+        return true;
+    }
+
+    private double distance(int from, int to) {
+        return distances[from * n + to];
+    }
+
+    private static int[] identity(int n) {
+        int[] path = new int[n];
+        for (int i = 0; i < n; i++) {
+            path[i] = i;
+        }
+        return path;
+    }
+
+    private static void reverse(int[] path, int from, int to) {
+        while (from < to) {
+            int temp = path[from];
+            path[from++] = path[to];
+            path[to--] = temp;
+        }
+    }
+}
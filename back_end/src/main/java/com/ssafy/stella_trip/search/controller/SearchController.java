@@ -0,0 +1,62 @@
+package com.ssafy.stella_trip.search.controller;
+
+import com.ssafy.stella_trip.common.response.CommonResponse;
+import com.ssafy.stella_trip.search.dto.SearchType;
+import com.ssafy.stella_trip.search.dto.response.SearchResultResponseDTO;
+import com.ssafy.stella_trip.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/search")
+@PreAuthorize("permitAll()")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping()
+    @Operation(
+            summary = "키워드 통합 검색",
+            description = "여행지(제목, 주소) 또는 여행 계획(제목, 태그)을 관련도 순으로 검색합니다. \n" +
+                    "type은 ATTRACTION 또는 PLAN입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+            @ApiResponse(responseCode = "503", description = "SEARCH-001: 검색 색인을 준비 중입니다."),
+    })
+    public CommonResponse<List<SearchResultResponseDTO>> search(
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "type", defaultValue = "ATTRACTION") SearchType type,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return new CommonResponse<>(searchService.search(type, keyword, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 여행지 또는 여행 계획 제목을 좋아요 순으로 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "정상적으로 조회 완료"),
+            @ApiResponse(responseCode = "503", description = "SEARCH-001: 검색 색인을 준비 중입니다."),
+    })
+    public CommonResponse<List<String>> autocomplete(
+            @RequestParam(value = "prefix") String prefix,
+            @RequestParam(value = "type", defaultValue = "ATTRACTION") SearchType type,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return new CommonResponse<>(searchService.autocomplete(type, prefix, size), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.stella_trip.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 색인 대상 문서
+ * 여행지는 subText에 주소, plan은 태그 이름들을 담음
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocumentDTO {
+    private int id;
+    private String title;
+    private String subText;
+    private int likeCount;
+    private double rating;
+}
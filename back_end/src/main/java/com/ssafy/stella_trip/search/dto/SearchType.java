@@ -0,0 +1,6 @@
+package com.ssafy.stella_trip.search.dto;
+
+public enum SearchType {
+    ATTRACTION,
+    PLAN
+}
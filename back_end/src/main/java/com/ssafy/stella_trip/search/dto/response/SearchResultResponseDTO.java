@@ -0,0 +1,19 @@
+package com.ssafy.stella_trip.search.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponseDTO {
+    private String type;
+    private int id;
+    private String title;
+    private String subText;
+    private int likeCount;
+    private double score;
+}
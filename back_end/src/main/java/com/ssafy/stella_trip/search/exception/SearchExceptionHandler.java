@@ -0,0 +1,22 @@
+package com.ssafy.stella_trip.search.exception;
+
+import com.ssafy.stella_trip.common.response.CommonResponse;
+import com.ssafy.stella_trip.common.response.ErrorBody;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SearchExceptionHandler {
+    @ExceptionHandler(SearchIndexNotReadyException.class)
+    public CommonResponse<ErrorBody> handleSearchIndexNotReadyException(SearchIndexNotReadyException e, HttpServletRequest request) {
+        log.warn("SEARCH-001> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
+        return new CommonResponse<>(new ErrorBody("SEARCH-001", "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
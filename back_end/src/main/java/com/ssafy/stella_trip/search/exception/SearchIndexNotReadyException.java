@@ -0,0 +1,7 @@
+package com.ssafy.stella_trip.search.exception;
+
+public class SearchIndexNotReadyException extends RuntimeException {
+    public SearchIndexNotReadyException(String message) {
+        super(message);
+    }
+}
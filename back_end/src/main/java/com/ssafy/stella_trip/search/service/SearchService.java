@@ -0,0 +1,263 @@
+package com.ssafy.stella_trip.search.service;
+
+import com.ssafy.stella_trip.dao.search.SearchDAO;
+import com.ssafy.stella_trip.search.dto.SearchDocumentDTO;
+import com.ssafy.stella_trip.search.dto.SearchType;
+import com.ssafy.stella_trip.search.dto.response.SearchResultResponseDTO;
+import com.ssafy.stella_trip.search.exception.SearchIndexNotReadyException;
+import com.ssafy.stella_trip.search.util.NGramIndex;
+import com.ssafy.stella_trip.search.util.NGramIndex.IndexedDocument;
+import com.ssafy.stella_trip.search.util.SearchIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 여행지 / plan 키워드 검색용 in-process n-gram 색인
+ * 기동 시와 주기적으로 DB에서 전체 재생성하고, plan 변경은 commit 이후 해당 plan만 다시 읽어 반영
+ * 다른 서버의 plan 변경은 Redis pub/sub으로 전달받음
+ */
+@Slf4j
+@Service
+public class SearchService implements MessageListener {
+
+    private static final String PLAN_CHANNEL = "search-plan-changed";
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 50;
+
+    private final SearchDAO searchDAO;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int maxIdFilter;
+    private final SearchIndex attractionIndex = new SearchIndex();
+    private final SearchIndex planIndex = new SearchIndex();
+
+    public SearchService(
+            SearchDAO searchDAO,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${search.index.max-id-filter:2000}") int maxIdFilter
+    ) {
+        this.searchDAO = searchDAO;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.maxIdFilter = maxIdFilter;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(PLAN_CHANNEL));
+    }
+
+    /**
+     * 전체 색인 재생성
+     * 변경 이벤트를 놓치거나 DB를 직접 수정한 경우도 다음 재생성 때 맞춰짐
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${search.index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            attractionIndex.rebuild(searchDAO::getAttractionSearchDocuments);
+            planIndex.rebuild(searchDAO::getPlanSearchDocuments);
+            log.info("검색 색인 재생성 완료, 여행지: " + attractionIndex.size() + ", 계획: " + planIndex.size());
+        } catch (DataAccessException e) {
+            // 실패 시 기존 색인 유지, 최초 생성 전이라면 계속 DB LIKE 검색 사용
+            log.warn("검색 색인 재생성 실패, 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 여행지 제목 키워드를 attraction_id 목록으로 변환
+     * @param keyword 검색어
+     * @return 제목에 검색어가 포함된 id (오름차순), 색인을 쓸 수 없으면 null (SQL LIKE로 검색)
+     */
+    public List<Integer> findAttractionIds(String keyword) {
+        return findIds(attractionIndex, keyword, true);
+    }
+
+    /**
+     * plan 제목 / 태그 키워드를 plan_id 목록으로 변환
+     * @param search 검색어
+     * @return 제목이나 태그에 검색어가 포함된 공개 plan id (오름차순), 색인을 쓸 수 없으면 null
+     */
+    public List<Integer> findPlanIds(String search) {
+        return findIds(planIndex, search, false);
+    }
+
+    /**
+     * plan의 제목 / 태그 / 공개 여부가 바뀐 뒤 색인 갱신
+     * transaction 안이라면 commit 이후에 다시 읽어서 반영
+     * @param planId planId
+     */
+    public void refreshPlan(int planId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadPlan(planId);
+                    publish(planId);
+                }
+            });
+        } else {
+            reloadPlan(planId);
+            publish(planId);
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 plan 변경 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object planId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (planId instanceof Integer) {
+            reloadPlan((Integer) planId);
+        }
+    }
+
+    /**
+     * 관련도 순 검색
+     * 제목 완전 일치 > 접두어 일치 > 부분 일치 순으로 점수를 주고, 주소 / 태그 일치와 인기도를 더함
+     * @param type 검색 대상
+     * @param keyword 검색어
+     * @param size 최대 결과 수
+     * @return 점수 내림차순 결과
+     */
+    public List<SearchResultResponseDTO> search(SearchType type, String keyword, int size) {
+        SearchIndex index = readyIndexOf(type);
+        String query = NGramIndex.normalize(keyword).strip();
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        int limit = limitOf(size);
+        Comparator<ScoredDocument> byScore = Comparator.comparingDouble(ScoredDocument::score);
+        PriorityQueue<ScoredDocument> top = new PriorityQueue<>(limit + 1, byScore);
+        for (IndexedDocument document : index.match(query, false)) {
+            top.offer(new ScoredDocument(document, score(document, query)));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        return top.stream()
+                .sorted(byScore.reversed())
+                .map(scored -> convertToSearchResultResponseDTO(type, scored))
+                .toList();
+    }
+
+    /**
+     * 제목 접두어 자동완성
+     * @param type 검색 대상
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 결과 수
+     * @return 좋아요 순 제목 목록 (중복 제거)
+     */
+    public List<String> autocomplete(SearchType type, String prefix, int size) {
+        SearchIndex index = readyIndexOf(type);
+        String query = NGramIndex.normalize(prefix).stripLeading();
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        return index.match(query, true).stream()
+                .filter(document -> document.title().startsWith(query))
+                .sorted(Comparator.comparingInt((IndexedDocument document) -> document.source().getLikeCount()).reversed()
+                        .thenComparingInt(document -> document.title().length()))
+                .map(document -> document.source().getTitle())
+                .distinct()
+                .limit(limitOf(size))
+                .toList();
+    }
+
+    private List<Integer> findIds(SearchIndex index, String keyword, boolean titleOnly) {
+        if (keyword == null || keyword.isEmpty() || !index.isReady()) {
+            return null;
+        }
+        List<IndexedDocument> matches = index.match(NGramIndex.normalize(keyword), titleOnly);
+        if (matches.size() > maxIdFilter) {
+            // 너무 넓은 검색어는 긴 IN 목록보다 LIKE 검색이 나음
+            return null;
+        }
+        return matches.stream()
+                .map(document -> document.source().getId())
+                .sorted()
+                .toList();
+    }
+
+    private void reloadPlan(int planId) {
+        try {
+            planIndex.put(planId, searchDAO.getPlanSearchDocument(planId));
+        } catch (DataAccessException e) {
+            // 다음 전체 재생성 때 반영됨
+            log.warn("plan 검색 색인 갱신 실패, planId: " + planId + ", 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    private void publish(int planId) {
+        try {
+            redisTemplate.convertAndSend(PLAN_CHANNEL, planId);
+        } catch (DataAccessException e) {
+            log.warn("plan 검색 색인 변경 전파 실패, planId: " + planId + ", 에러 메세지: " + e.getMessage());
+        }
+    }
+
+    private SearchIndex readyIndexOf(SearchType type) {
+        SearchIndex index = type == SearchType.PLAN ? planIndex : attractionIndex;
+        if (!index.isReady()) {
+            throw new SearchIndexNotReadyException("검색 색인이 아직 생성되지 않았습니다. type: " + type);
+        }
+        return index;
+    }
+
+    private static int limitOf(int size) {
+        return size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    private static double score(IndexedDocument document, String query) {
+        String title = document.title();
+        double score = 0;
+        if (title.equals(query)) {
+            score += 100;
+        } else if (title.startsWith(query)) {
+            score += 60;
+        } else if (title.contains(query)) {
+            score += 30;
+        }
+        if (!title.isEmpty() && title.contains(query)) {
+            // 제목이 짧을수록 검색어가 차지하는 비중이 큼
+            score += 20.0 * query.length() / title.length();
+        }
+        if (document.subText().contains(query)) {
+            score += 10;
+        }
+        SearchDocumentDTO source = document.source();
+        return score + Math.log1p(Math.max(source.getLikeCount(), 0)) + source.getRating();
+    }
+
+    private SearchResultResponseDTO convertToSearchResultResponseDTO(SearchType type, ScoredDocument scored) {
+        SearchDocumentDTO source = scored.document().source();
+        return SearchResultResponseDTO.builder()
+                .type(type.name())
+                .id(source.getId())
+                .title(source.getTitle())
+                .subText(source.getSubText() == null ? null : source.getSubText().replace("\n", ", "))
+                .likeCount(source.getLikeCount())
+                .score(scored.score())
+                .build();
+    }
+
+    private record ScoredDocument(IndexedDocument document, double score) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.ssafy.stella_trip.search.util;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 지도 축소 화면용 grid cluster 집계 (불변)
+ * 칸마다 분류(콘텐츠 타입)별 개수와 좌표 합을 미리 더해 두어,
+ * 분류 조건이 달라도 칸 단위 합산만으로 개수 / 중심점 / 가장 많은 분류를 계산
+ */
+public class GeoClusterGrid {
+
+    private final double cellDegrees;
+    // 칸 key → 분류별 집계
+    private final Map<Long, Map<Integer, Stat>> cells;
+
+    private GeoClusterGrid(double cellDegrees, Map<Long, Map<Integer, Stat>> cells) {
+        this.cellDegrees = cellDegrees;
+        this.cells = cells;
+    }
+
+    /**
+     * @param values 집계할 값
+     * @param latitudeOf 위도
+     * @param longitudeOf 경도
+     * @param categoryOf 분류
+     * @param cellDegrees 칸 크기 (도 단위)
+     * @return 집계 grid
+     */
+    public static <T> GeoClusterGrid build(
+            Collection<T> values,
+            ToDoubleFunction<T> latitudeOf,
+            ToDoubleFunction<T> longitudeOf,
+            ToIntFunction<T> categoryOf,
+            double cellDegrees) {
+
+        Map<Long, Map<Integer, Stat>> cells = new HashMap<>();
+        for (T value : values) {
+            double latitude = latitudeOf.applyAsDouble(value);
+            double longitude = longitudeOf.applyAsDouble(value);
+            long key = GeoGridIndex.cellKey(GeoGridIndex.cell(latitude, cellDegrees), GeoGridIndex.cell(longitude, cellDegrees));
+            cells.computeIfAbsent(key, k -> new HashMap<>())
+                    .computeIfAbsent(categoryOf.applyAsInt(value), k -> new Stat())
+                    .add(latitude, longitude);
+        }
+        return new GeoClusterGrid(cellDegrees, cells);
+    }
+
+    /**
+     * 영역과 겹치는 칸의 cluster 조회
+     * 영역 경계에 걸친 칸도 칸 전체를 집계하므로, 화면을 옮겨도 같은 칸은 같은 값을 반환
+     * @param categoryFilter 포함할 분류
+     * @return 값이 하나 이상인 칸의 cluster
+     */
+    public List<Cluster> clusters(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, IntPredicate categoryFilter) {
+        List<Cluster> result = new ArrayList<>();
+        GeoGridIndex.forEachCell(cells, cellDegrees, minLatitude, minLongitude, maxLatitude, maxLongitude, (key, stats) -> {
+            int count = 0;
+            double latitudeSum = 0;
+            double longitudeSum = 0;
+            int dominantCategory = 0;
+            int dominantCount = 0;
+            for (Map.Entry<Integer, Stat> entry : stats.entrySet()) {
+                if (!categoryFilter.test(entry.getKey())) {
+                    continue;
+                }
+                Stat stat = entry.getValue();
+                count += stat.count;
+                latitudeSum += stat.latitudeSum;
+                longitudeSum += stat.longitudeSum;
+                // 개수가 같으면 작은 분류 값 (결과가 HashMap 순서에 따라 바뀌지 않도록)
+                if (stat.count > dominantCount || (stat.count == dominantCount && entry.getKey() < dominantCategory)) {
+                    dominantCategory = entry.getKey();
+                    dominantCount = stat.count;
+                }
+            }
+            if (count > 0) {
+                result.add(new Cluster(
+                        GeoGridIndex.latitudeCellOf(key),
+                        GeoGridIndex.longitudeCellOf(key),
+                        latitudeSum / count,
+                        longitudeSum / count,
+                        count,
+                        dominantCategory
+                ));
+            }
+        });
+        return result;
+    }
+
+    public int cellCount() {
+        return cells.size();
+    }
+
+    private static class Stat {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+
+        private void add(double latitude, double longitude) {
+            count++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+        }
+    }
+
+    /**
+     * 칸 하나의 집계
+     * @param latitudeCell 칸 위도 번호
+     * @param longitudeCell 칸 경도 번호
+     * @param latitude 중심점 (평균) 위도
+     * @param longitude 중심점 (평균) 경도
+     * @param count 개수
+     * @param dominantCategory 가장 많은 분류
+     */
+    public record Cluster(long latitudeCell, long longitudeCell, double latitude, double longitude, int count, int dominantCategory) {
+    }
+}
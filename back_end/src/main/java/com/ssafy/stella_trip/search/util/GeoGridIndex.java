@@ -0,0 +1,202 @@
+package com.ssafy.stella_trip.search.util;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 위경도 좌표 grid 색인 (불변)
+ * 좌표를 일정한 크기(도 단위)의 칸으로 나누어 칸마다 값 index를 보관
+ * 칸 key는 (위도 칸 번호, 경도 칸 번호) 한 쌍이며 geohash가 아니므로 prefix로 인접 칸이나 상위 영역을 찾을 수 없음
+ * 조회는 영역과 겹치는 칸 번호 범위를 직접 계산해서 확인하므로 전체 값을 훑지 않음
+ * @param <T> 색인 값
+ */
+public class GeoGridIndex<T> {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private final List<T> values;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double cellDegrees;
+    // 칸 key → 그 칸에 속한 값 index
+    private final Map<Long, int[]> cells;
+
+    private GeoGridIndex(List<T> values, double[] latitudes, double[] longitudes, double cellDegrees, Map<Long, int[]> cells) {
+        this.values = values;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.cellDegrees = cellDegrees;
+        this.cells = cells;
+    }
+
+    public static <T> GeoGridIndex<T> empty() {
+        return new GeoGridIndex<>(List.of(), new double[0], new double[0], 1, Map.of());
+    }
+
+    /**
+     * @param values 색인 값
+     * @param latitudeOf 위도
+     * @param longitudeOf 경도
+     * @param cellDegrees 칸 크기 (도 단위, 0.05면 위도 방향 약 5.5km)
+     * @return 색인
+     */
+    public static <T> GeoGridIndex<T> build(
+            List<T> values,
+            ToDoubleFunction<T> latitudeOf,
+            ToDoubleFunction<T> longitudeOf,
+            double cellDegrees) {
+
+        List<T> snapshot = List.copyOf(values);
+        double[] latitudes = new double[snapshot.size()];
+        double[] longitudes = new double[snapshot.size()];
+        Map<Long, List<Integer>> grouped = new HashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            latitudes[i] = latitudeOf.applyAsDouble(snapshot.get(i));
+            longitudes[i] = longitudeOf.applyAsDouble(snapshot.get(i));
+            grouped.computeIfAbsent(cellKey(cell(latitudes[i], cellDegrees), cell(longitudes[i], cellDegrees)), key -> new ArrayList<>())
+                    .add(i);
+        }
+
+        Map<Long, int[]> cells = new HashMap<>();
+        grouped.forEach((key, indexes) -> cells.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+        return new GeoGridIndex<>(snapshot, latitudes, longitudes, cellDegrees, cells);
+    }
+
+    /**
+     * 사각 영역 안의 값 조회 (경계 포함)
+     * @param filter 추가 조건
+     * @return 영역 안의 값 (순서 없음)
+     */
+    public List<T> within(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        forEachCandidate(minLatitude, minLongitude, maxLatitude, maxLongitude, i -> {
+            if (latitudes[i] >= minLatitude && latitudes[i] <= maxLatitude
+                    && longitudes[i] >= minLongitude && longitudes[i] <= maxLongitude
+                    && filter.test(values.get(i))) {
+                result.add(values.get(i));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 중심점에서 반경 안의 값을 가까운 순으로 조회
+     * @param radiusMeters 반경 (m)
+     * @param filter 추가 조건
+     * @return 거리 오름차순 결과
+     */
+    public List<Hit<T>> nearby(double latitude, double longitude, double radiusMeters, Predicate<T> filter) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+        // 고위도일수록 경도 1도의 거리가 짧아지므로 경도 범위를 넓힘
+        double cos = Math.cos(Math.toRadians(Math.min(89.9, Math.abs(latitude) + latitudeDelta)));
+        double longitudeDelta = Math.min(180, latitudeDelta / cos);
+
+        List<Hit<T>> result = new ArrayList<>();
+        forEachCandidate(latitude - latitudeDelta, longitude - longitudeDelta, latitude + latitudeDelta, longitude + longitudeDelta, i -> {
+            double distance = distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+            if (distance <= radiusMeters && filter.test(values.get(i))) {
+                result.add(new Hit<>(values.get(i), distance));
+            }
+        });
+        result.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return result;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (haversine, m)
+     */
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void forEachCandidate(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, IntConsumer consumer) {
+        forEachCell(cells, cellDegrees, minLatitude, minLongitude, maxLatitude, maxLongitude, (key, indexes) -> {
+            for (int i : indexes) {
+                consumer.accept(i);
+            }
+        });
+    }
+
+    /**
+     * 영역과 겹치는 칸을 순회
+     * 영역이 넓어 확인할 칸 수가 실제 채워진 칸 수보다 많으면 채워진 칸만 순회
+     */
+    static <V> void forEachCell(
+            Map<Long, V> cells,
+            double cellDegrees,
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            BiConsumer<Long, V> consumer) {
+
+        long minLatitudeCell = cell(minLatitude, cellDegrees);
+        long maxLatitudeCell = cell(maxLatitude, cellDegrees);
+        long minLongitudeCell = cell(minLongitude, cellDegrees);
+        long maxLongitudeCell = cell(maxLongitude, cellDegrees);
+        if (minLatitudeCell > maxLatitudeCell || minLongitudeCell > maxLongitudeCell) {
+            return;
+        }
+
+        long cellCount = (maxLatitudeCell - minLatitudeCell + 1) * (maxLongitudeCell - minLongitudeCell + 1);
+        if (cellCount > cells.size()) {
+            cells.forEach((key, value) -> {
+                long latitudeCell = latitudeCellOf(key);
+                long longitudeCell = longitudeCellOf(key);
+                if (latitudeCell >= minLatitudeCell && latitudeCell <= maxLatitudeCell
+                        && longitudeCell >= minLongitudeCell && longitudeCell <= maxLongitudeCell) {
+                    consumer.accept(key, value);
+                }
+            });
+            return;
+        }
+
+        for (long latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (long longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                long key = cellKey(latitudeCell, longitudeCell);
+                V value = cells.get(key);
+                if (value != null) {
+                    consumer.accept(key, value);
+                }
+            }
+        }
+    }
+
+    static long cell(double degrees, double cellDegrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    // 위도 칸 번호를 상위 32bit, 경도 칸 번호를 하위 32bit에 둔 map key (정렬 / prefix 의미 없음)
+    static long cellKey(long latitudeCell, long longitudeCell) {
+        return (latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+
+    static long latitudeCellOf(long cellKey) {
+        return cellKey >> 32;
+    }
+
+    static long longitudeCellOf(long cellKey) {
+        return (int) cellKey;
+    }
+
+    /**
+     * 반경 조회 결과
+     * @param value 값
+     * @param distanceMeters 중심점과의 거리 (m)
+     */
+    public record Hit<T>(T value, double distanceMeters) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssafy.stella_trip.search.util;
+
+import com.ssafy.stella_trip.search.dto.SearchDocumentDTO;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * bigram 역색인 (불변 snapshot)
+ * 한글 제목은 띄어쓰기 단위로 자르면 부분 검색이 안 되므로 2글자 단위로 색인
+ * gram 교집합으로 후보를 좁힌 뒤 원문 포함 여부를 다시 확인하므로 결과는 LIKE '%keyword%'와 같음
+ */
+public class NGramIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final IndexedDocument[] documents;
+    // gram → 해당 gram을 포함하는 문서 순번 (오름차순)
+    private final Map<String, int[]> postings;
+
+    private NGramIndex(IndexedDocument[] documents, Map<String, int[]> postings) {
+        this.documents = documents;
+        this.postings = postings;
+    }
+
+    public static NGramIndex empty() {
+        return new NGramIndex(new IndexedDocument[0], Map.of());
+    }
+
+    /**
+     * 문서 목록으로 색인 생성
+     * 문서별 gram 개수를 먼저 세고 배열을 한 번에 할당해 boxing 없이 posting을 채움
+     * @param sources 색인할 문서
+     * @return 색인
+     */
+    public static NGramIndex build(List<SearchDocumentDTO> sources) {
+        IndexedDocument[] documents = sources.stream()
+                .map(IndexedDocument::of)
+                .toArray(IndexedDocument[]::new);
+
+        Map<String, int[]> counts = new HashMap<>();
+        for (IndexedDocument document : documents) {
+            for (String gram : document.grams()) {
+                counts.computeIfAbsent(gram, g -> new int[1])[0]++;
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(counts.size() * 2);
+        counts.forEach((gram, count) -> postings.put(gram, new int[count[0]]));
+        counts.values().forEach(count -> count[0] = 0);
+        for (int ordinal = 0; ordinal < documents.length; ordinal++) {
+            for (String gram : documents[ordinal].grams()) {
+                int[] cursor = counts.get(gram);
+                postings.get(gram)[cursor[0]++] = ordinal;
+            }
+        }
+        return new NGramIndex(documents, postings);
+    }
+
+    public int size() {
+        return documents.length;
+    }
+
+    /**
+     * 검색어를 포함하는 문서 조회
+     * @param query normalize()를 거친 검색어
+     * @param titleOnly true면 제목만, false면 제목 / 부가 텍스트 모두 확인
+     * @return 일치하는 문서 (색인 순서)
+     */
+    public List<IndexedDocument> match(String query, boolean titleOnly) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        List<IndexedDocument> result = new ArrayList<>();
+        if (query.length() < GRAM_SIZE) {
+            // 한 글자 검색어는 gram이 없으므로 전체 확인
+            for (IndexedDocument document : documents) {
+                if (document.contains(query, titleOnly)) {
+                    result.add(document);
+                }
+            }
+            return result;
+        }
+
+        Set<String> grams = gramsOf(query);
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 posting부터 교집합
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] shortest = lists.get(0);
+        for (int ordinal : shortest) {
+            if (containsAll(lists, ordinal) && documents[ordinal].contains(query, titleOnly)) {
+                result.add(documents[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 검색 / 색인 공통 정규화 (전각 → 반각, 소문자)
+     * @param text 원문
+     * @return 정규화된 문자열, null이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsAll(List<int[]> lists, int ordinal) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (Arrays.binarySearch(lists.get(i), ordinal) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 정규화된 텍스트와 원본 문서
+     */
+    public record IndexedDocument(SearchDocumentDTO source, String title, String subText) {
+
+        public static IndexedDocument of(SearchDocumentDTO source) {
+            return new IndexedDocument(source, normalize(source.getTitle()), normalize(source.getSubText()));
+        }
+
+        public boolean contains(String query, boolean titleOnly) {
+            return title.contains(query) || (!titleOnly && subText.contains(query));
+        }
+
+        // 제목과 부가 텍스트 경계를 넘는 gram은 만들지 않음
+        private Set<String> grams() {
+            Set<String> grams = gramsOf(title);
+            grams.addAll(gramsOf(subText));
+            return grams;
+        }
+    }
+}
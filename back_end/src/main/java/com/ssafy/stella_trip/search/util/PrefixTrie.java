@@ -0,0 +1,190 @@
+package com.ssafy.stella_trip.search.util;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 자동완성용 압축 prefix trie (불변)
+ * 분기가 없는 구간은 한 edge로 합치고, 각 node에 하위 값 중 점수 상위 k개를 미리 계산해 둠
+ * 조회는 접두어 길이만큼 내려간 뒤 그 node의 상위 목록을 그대로 반환하므로 전체 크기와 상관없이 일정한 비용
+ * @param <T> 자동완성 값
+ */
+public class PrefixTrie<T> {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<T> values;
+    private final Node root;
+
+    private PrefixTrie(List<T> values, Node root) {
+        this.values = values;
+        this.root = root;
+    }
+
+    public static <T> PrefixTrie<T> empty() {
+        return new PrefixTrie<>(List.of(), new Node("", new char[0], new Node[0], EMPTY));
+    }
+
+    /**
+     * @param values 자동완성 값
+     * @param keysOf 값을 찾을 수 있는 key 목록 (정규화된 문자열, 한 값이 여러 key를 가질 수 있음)
+     * @param scoreOf 정렬 점수 (높을수록 먼저)
+     * @param topK node마다 보관할 상위 개수 (조회 최대 개수)
+     * @return trie
+     */
+    public static <T> PrefixTrie<T> build(
+            List<T> values,
+            Function<T, Collection<String>> keysOf,
+            ToDoubleFunction<T> scoreOf,
+            int topK) {
+
+        List<T> snapshot = List.copyOf(values);
+        double[] scores = new double[snapshot.size()];
+        List<KeyRef> keys = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            scores[i] = scoreOf.applyAsDouble(snapshot.get(i));
+            for (String key : new HashSet<>(keysOf.apply(snapshot.get(i)))) {
+                if (!key.isEmpty()) {
+                    keys.add(new KeyRef(key, i));
+                }
+            }
+        }
+        keys.sort(Comparator.comparing(KeyRef::key));
+
+        Builder builder = new Builder(keys.toArray(new KeyRef[0]), scores, topK);
+        return new PrefixTrie<>(snapshot, builder.node(0, keys.size(), 0, 0));
+    }
+
+    /**
+     * 접두어로 시작하는 key를 가진 값을 점수 순으로 조회
+     * @param prefix 정규화된 접두어
+     * @param limit 최대 개수 (build 때의 topK를 넘을 수 없음)
+     * @return 점수 내림차순 값
+     */
+    public List<T> search(String prefix, int limit) {
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node child = node.child(prefix.charAt(pos));
+            if (child == null) {
+                return List.of();
+            }
+            String label = child.label;
+            int length = Math.min(label.length(), prefix.length() - pos);
+            if (!prefix.regionMatches(pos, label, 0, length)) {
+                return List.of();
+            }
+            pos += length;
+            node = child;
+        }
+
+        int count = Math.min(limit, node.top.length);
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(values.get(node.top[i]));
+        }
+        return result;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private record KeyRef(String key, int valueIndex) {
+    }
+
+    private static class Node {
+        private final String label;
+        private final char[] childChars;
+        private final Node[] children;
+        // 하위 값 index (점수 내림차순, 중복 없음)
+        private final int[] top;
+
+        private Node(String label, char[] childChars, Node[] children, int[] top) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(childChars, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    /**
+     * 정렬된 key 배열로 bottom-up 생성
+     * 정렬되어 있으므로 구간의 공통 접두어는 첫 key와 마지막 key의 공통 접두어와 같음
+     */
+    private static class Builder {
+        private final KeyRef[] keys;
+        private final double[] scores;
+        private final int topK;
+
+        private Builder(KeyRef[] keys, double[] scores, int topK) {
+            this.keys = keys;
+            this.scores = scores;
+            this.topK = topK;
+        }
+
+        // keys[lo, hi)는 모두 [0, end) 구간이 같고, node의 edge는 [start, end)
+        private Node node(int lo, int hi, int start, int end) {
+            String label = lo < hi ? keys[lo].key().substring(start, end) : "";
+            List<Integer> candidates = new ArrayList<>();
+
+            // 이 node에서 끝나는 key는 정렬상 앞쪽에 모여 있음
+            int i = lo;
+            while (i < hi && keys[i].key().length() == end) {
+                candidates.add(keys[i].valueIndex());
+                i++;
+            }
+
+            List<Character> childChars = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+            while (i < hi) {
+                char c = keys[i].key().charAt(end);
+                int j = i + 1;
+                while (j < hi && keys[j].key().charAt(end) == c) {
+                    j++;
+                }
+                Node child = node(i, j, end, commonPrefixLength(keys[i].key(), keys[j - 1].key()));
+                childChars.add(c);
+                children.add(child);
+                for (int valueIndex : child.top) {
+                    candidates.add(valueIndex);
+                }
+                i = j;
+            }
+
+            char[] chars = new char[childChars.size()];
+            for (int k = 0; k < chars.length; k++) {
+                chars[k] = childChars.get(k);
+            }
+            return new Node(label, chars, children.toArray(new Node[0]), top(candidates));
+        }
+
+        private int[] top(List<Integer> candidates) {
+            return candidates.stream()
+                    .distinct()
+                    .sorted(Comparator.comparingDouble((Integer index) -> scores[index]).reversed()
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(topK)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.stella_trip.search.util;
+
+import com.ssafy.stella_trip.search.dto.SearchDocumentDTO;
+import com.ssafy.stella_trip.search.util.NGramIndex.IndexedDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 불변 NGramIndex(base)와 그 이후의 변경분을 합쳐서 보여주는 색인
+ * 변경은 드물기 때문에 변경된 문서만 작은 map에 두고 매 검색마다 직접 확인하며,
+ * 주기적인 전체 재생성 때 base에 합쳐짐
+ */
+public class SearchIndex {
+
+    private volatile NGramIndex base = NGramIndex.empty();
+    private volatile boolean ready = false;
+    private final AtomicLong sequence = new AtomicLong();
+    // id → 변경된 문서 (삭제 / 비공개 전환이면 document가 null)
+    private final ConcurrentHashMap<Integer, Change> changes = new ConcurrentHashMap<>();
+
+    /**
+     * 최초 생성 전에는 색인이 비어 있으므로 호출하는 쪽에서 DB 검색으로 대체해야 함
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return base.size();
+    }
+
+    /**
+     * DB에서 전체 문서를 읽어 base를 새로 만들고, 읽기 전에 반영된 변경분은 정리
+     * @param loader 전체 문서 조회
+     */
+    public void rebuild(Supplier<List<SearchDocumentDTO>> loader) {
+        long startedAt = sequence.get();
+        base = NGramIndex.build(loader.get());
+        ready = true;
+        // 읽기 시작 이후의 변경은 새 base에 빠져 있을 수 있으므로 남겨 둠
+        changes.entrySet().removeIf(entry -> entry.getValue().sequence <= startedAt);
+    }
+
+    /**
+     * 문서 추가 / 수정 / 삭제 반영
+     * @param id 문서 id
+     * @param document 최신 문서, 삭제되었으면 null
+     */
+    public void put(int id, SearchDocumentDTO document) {
+        IndexedDocument indexed = document == null ? null : IndexedDocument.of(document);
+        changes.put(id, new Change(indexed, sequence.incrementAndGet()));
+    }
+
+    /**
+     * @param query NGramIndex.normalize()를 거친 검색어
+     * @param titleOnly true면 제목만 확인
+     * @return 일치하는 문서 (순서 보장 없음)
+     */
+    public List<IndexedDocument> match(String query, boolean titleOnly) {
+        List<IndexedDocument> result = new ArrayList<>();
+        for (IndexedDocument document : base.match(query, titleOnly)) {
+            if (!changes.containsKey(document.source().getId())) {
+                result.add(document);
+            }
+        }
+        for (Change change : changes.values()) {
+            if (change.document != null && change.document.contains(query, titleOnly)) {
+                result.add(change.document);
+            }
+        }
+        return result;
+    }
+
+    private record Change(IndexedDocument document, long sequence) {
+    }
+}
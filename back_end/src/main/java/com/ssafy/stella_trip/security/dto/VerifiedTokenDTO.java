@@ -0,0 +1,28 @@
+package com.ssafy.stella_trip.security.dto;
+
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 access token의 claim 묶음
+ * 한 번 파싱한 결과를 filter / interceptor가 그대로 재사용하기 위함
+ */
+@Getter
+public class VerifiedTokenDTO {
+    private final JwtUserInfo userInfo;
+    private final List<SimpleGrantedAuthority> authorities;
+    private final long expiresAt; // epoch millis
+
+    public VerifiedTokenDTO(JwtUserInfo userInfo, List<String> roles, long expiresAt) {
+        this.userInfo = userInfo;
+        this.authorities = roles == null ? List.of() : roles.stream()
+                .map(SimpleGrantedAuthority::new).toList();
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
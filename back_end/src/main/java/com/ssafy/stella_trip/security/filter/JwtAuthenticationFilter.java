@@ -1,22 +1,18 @@
 package com.ssafy.stella_trip.security.filter;
 
-import com.ssafy.stella_trip.security.dto.JwtUserInfo;
+import com.ssafy.stella_trip.security.dto.VerifiedTokenDTO;
 import com.ssafy.stella_trip.security.util.JwtTokenProvider;
-import com.ssafy.stella_trip.user.dto.UserDTO;
-import com.ssafy.stella_trip.user.dto.UserRole;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -34,7 +30,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
 
-            if (!jwtProvider.validateToken(token)) {
+            // 한 번의 파싱으로 검증과 claim 추출을 함께 처리
+            VerifiedTokenDTO verified = jwtProvider.resolveToken(token);
+            if (verified == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json; charset=UTF-8");
                 response.getWriter().write("{\"error\":\"Invalid or expired token\"}");
@@ -42,15 +40,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            int userId = jwtProvider.getUserIdFromToken(token);
-            String name = jwtProvider.getUserNameFromToken(token);
-            String email = jwtProvider.getEmailFromToken(token);
-            List<String> roles = jwtProvider.getRolesFromToken(token);
-            List<SimpleGrantedAuthority> authorities = roles.stream()
-                    .map(SimpleGrantedAuthority::new).toList();
-
             UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(new JwtUserInfo(userId, name, email), null, authorities);
+                    new UsernamePasswordAuthenticationToken(verified.getUserInfo(), null, verified.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
@@ -0,0 +1,74 @@
+package com.ssafy.stella_trip.security.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * token 블랙리스트용 thread-safe bloom filter
+ * false면 확실히 블랙리스트가 아니고, true면 Redis로 한 번 더 확인해야 함
+ */
+public class BlacklistBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 등록 수
+     * @param falsePositiveRate 허용 오탐율 (0 ~ 1)
+     */
+    public BlacklistBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    /**
+     * digest를 filter에 등록
+     * @param digest token의 SHA-256 digest (32바이트)
+     */
+    public void put(byte[] digest) {
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << (index & 63);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * digest가 등록되었을 가능성이 있는지 확인
+     * @param digest token의 SHA-256 digest (32바이트)
+     * @return 등록되었을 가능성이 있으면 true
+     */
+    public boolean mightContain(byte[] digest) {
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SHA-256 결과는 이미 균등 분포이므로 앞 16바이트를 두 개의 hash로 사용 (double hashing)
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+}
@@ -1,10 +1,11 @@
 package com.ssafy.stella_trip.security.util;
 
+import com.ssafy.stella_trip.security.dto.JwtUserInfo;
+import com.ssafy.stella_trip.security.dto.VerifiedTokenDTO;
 import com.ssafy.stella_trip.user.dto.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -15,24 +16,25 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private final String secret;
     private final int accessExpirationTime;
     private final int refreshExpirationTime;
     private final SecretKey key;
-    private static final String BLACKLIST_PREFIX = "token-blacklist:";
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token.expiration}") int accessExpirationTime,
             @Value("${jwt.refresh-token.expiration}") int refreshExpirationTime,
-            RedisTemplate<String, Object> redisTemplate
+            TokenBlacklist tokenBlacklist,
+            VerifiedTokenCache verifiedTokenCache
     ) throws NoSuchAlgorithmException {
         this.secret = secret;
         this.accessExpirationTime = accessExpirationTime;
@@ -41,13 +43,16 @@ public class JwtTokenProvider {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
         byte[] hashBytes = digest.digest(secret.getBytes(StandardCharsets.UTF_8));
         this.key = Keys.hmacShaKeyFor(hashBytes);
-        this.redisTemplate = redisTemplate;
+        // JwtParser는 immutable / thread-safe 하므로 한 번만 생성
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.tokenBlacklist = tokenBlacklist;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     private JwtParser getJwtParser() {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build();
+        return jwtParser;
     }
 
     /**
@@ -100,17 +105,17 @@ public class JwtTokenProvider {
      * @return UserRole
      */
     public List<String> getRolesFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
         return claims.get("roles", List.class);
     }
 
     public int getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
         return claims.get("userId", Integer.class);
     }
 
     public String getUserNameFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
         return claims.get("name", String.class);
     }
 
@@ -144,13 +149,48 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * access token을 한 번만 파싱해서 인증에 필요한 claim을 모두 꺼내는 메서드
+     * 같은 token은 exp까지 캐시된 결과를 사용해 서명 검증을 생략
+     * @param token 토큰
+     * @return 검증된 token 정보, 유효하지 않으면 null
+     */
+    public VerifiedTokenDTO resolveToken(String token) {
+        // Redis에 블랙리스트로 등록된 토큰인지 확인
+        if (isTokenBlacklisted(token)) {
+            return null;
+        }
+
+        VerifiedTokenDTO cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
+            Integer userId = claims.get("userId", Integer.class);
+            if (userId == null) {
+                // refresh token 등 userId claim이 없는 토큰은 인증에 사용할 수 없음
+                return null;
+            }
+            JwtUserInfo userInfo = new JwtUserInfo(userId, claims.get("name", String.class), claims.getSubject());
+            List<String> roles = claims.get("roles", List.class);
+            VerifiedTokenDTO verified = new VerifiedTokenDTO(userInfo, roles, claims.getExpiration().getTime());
+            verifiedTokenCache.put(token, verified);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * 토큰이 블랙리스트에 등록되어 있는지 확인
      * @param token 검증할 토큰
      * @return 블랙리스트에 있으면 true
      */
     private boolean isTokenBlacklisted(String token) {
-        return redisTemplate.hasKey(BLACKLIST_PREFIX + token);
+        // bloom filter로 걸러지지 않은 token만 Redis 조회
+        return tokenBlacklist.isBlacklisted(token);
     }
 
     /**
@@ -169,13 +209,9 @@ public class JwtTokenProvider {
 
             // 만료 시간이 양수일 경우에만 Redis에 저장
             if (ttl > 0) {
-                redisTemplate.opsForValue().set(
-                        BLACKLIST_PREFIX + token,
-                        "blacklisted",
-                        ttl,
-                        TimeUnit.MILLISECONDS
-                );
+                tokenBlacklist.add(token, ttl);
             }
+            verifiedTokenCache.evict(token);
         } catch (JwtException e) {
             // 이미 만료된 토큰이거나 유효하지 않은 토큰인 경우 무시
         }
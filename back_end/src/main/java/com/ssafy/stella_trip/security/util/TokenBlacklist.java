@@ -0,0 +1,158 @@
+package com.ssafy.stella_trip.security.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 토큰 블랙리스트 앞단의 node-local bloom filter
+ * bloom filter에 없는 token은 Redis 조회 없이 통과시키고, 있을 가능성이 있는 token만 Redis로 확인
+ * 다른 서버에서 등록한 블랙리스트는 Redis pub/sub으로 전달받아 filter에 반영
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String BLACKLIST_PREFIX = "token-blacklist:";
+    private static final String BLACKLIST_CHANNEL = "token-blacklist-events";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final boolean failOpen;
+
+    private volatile BlacklistBloomFilter filter;
+    // filter가 Redis와 동기화되기 전에는 모든 token을 Redis로 확인
+    private volatile boolean ready = false;
+    // 재생성 중인 filter (교체가 끝날 때까지 등록 이벤트를 기존 filter와 함께 반영)
+    private volatile BlacklistBloomFilter rebuilding;
+
+    public TokenBlacklist(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.blacklist.expected-insertions:100000}") int expectedInsertions,
+            @Value("${jwt.blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.blacklist.fail-open:true}") boolean failOpen
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.failOpen = failOpen;
+        this.filter = new BlacklistBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+    }
+
+    /**
+     * 토큰이 블랙리스트에 등록되어 있는지 확인
+     * @param token 검증할 토큰
+     * @return 블랙리스트에 있으면 true
+     */
+    public boolean isBlacklisted(String token) {
+        if (ready && !filter.mightContain(TokenDigestUtil.sha256(token))) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + token));
+        } catch (DataAccessException e) {
+            // Redis 장애 / timeout 시 설정에 따라 통과(fail-open) 또는 거부(fail-closed)
+            log.warn("토큰 블랙리스트 조회 실패, fail-open: " + failOpen + ", 에러 메세지: " + e.getMessage());
+            return !failOpen;
+        }
+    }
+
+    /**
+     * 토큰을 블랙리스트에 등록하고 다른 서버에 전파
+     * @param token 블랙리스트에 추가할 토큰
+     * @param ttlMillis 남은 유효 시간
+     */
+    public void add(String token, long ttlMillis) {
+        redisTemplate.opsForValue().set(
+                BLACKLIST_PREFIX + token,
+                "blacklisted",
+                ttlMillis,
+                TimeUnit.MILLISECONDS
+        );
+        String digest = TokenDigestUtil.digest(token);
+        register(digest);
+        redisTemplate.convertAndSend(BLACKLIST_CHANNEL, digest);
+    }
+
+    /**
+     * 다른 서버에서 발행한 블랙리스트 등록 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object digest = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (digest instanceof String) {
+            register((String) digest);
+        }
+    }
+
+    /**
+     * Redis의 블랙리스트 key로 filter를 새로 구성
+     * bloom filter는 삭제가 불가능하므로 주기적으로 재생성해 만료된 token을 정리
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        BlacklistBloomFilter rebuilt = new BlacklistBloomFilter(expectedInsertions, falsePositiveRate);
+        // scan 시작 전에 등록해서, scan에 포함되지 않을 수 있는 이후 등록도 새 filter에 들어가도록 함
+        rebuilding = rebuilt;
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                scanBlacklistKeys(connection, rebuilt);
+                return null;
+            });
+            filter = rebuilt;
+            ready = true;
+        } catch (DataAccessException e) {
+            // 동기화 실패 시 기존 filter를 유지하되, 최초 동기화 전이라면 계속 Redis로 확인
+            log.warn("토큰 블랙리스트 filter 재생성 실패, 에러 메세지: " + e.getMessage());
+        } finally {
+            // filter 교체 이후에 해제하므로, 교체 전 기존 filter에만 들어간 등록은 없음
+            rebuilding = null;
+        }
+    }
+
+    private void scanBlacklistKeys(RedisConnection connection, BlacklistBloomFilter target) {
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                target.put(TokenDigestUtil.sha256(key.substring(BLACKLIST_PREFIX.length())));
+            }
+        }
+    }
+
+    // 재생성 중인 filter를 먼저 읽음
+    // 여기서 null이었다면 재생성 전이고 token은 이미 Redis에 있으므로 scan에 포함되거나, 재생성이 끝나 filter가 이미 교체된 상태
+    private void register(String digest) {
+        byte[] hash = Base64.getDecoder().decode(digest);
+        BlacklistBloomFilter next = rebuilding;
+        filter.put(hash);
+        if (next != null) {
+            next.put(hash);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ssafy.stella_trip.security.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * token 원문 대신 메모리 / 메시지에 남길 digest 생성용 유틸
+ */
+public class TokenDigestUtil {
+
+    private TokenDigestUtil() {
+    }
+
+    /**
+     * token의 SHA-256 digest
+     * @param token token string
+     * @return 32바이트 digest
+     */
+    public static byte[] sha256(String token) {
+        try {
+            // MessageDigest는 thread-safe하지 않으므로 호출마다 생성
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * token의 SHA-256 digest를 Base64 문자열로 반환
+     * @param token token string
+     * @return Base64 digest
+     */
+    public static String digest(String token) {
+        return Base64.getEncoder().encodeToString(sha256(token));
+    }
+}
@@ -0,0 +1,68 @@
+package com.ssafy.stella_trip.security.util;
+
+import com.ssafy.stella_trip.security.dto.VerifiedTokenDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 token을 exp까지 보관하는 in-process 캐시
+ * key는 token 원문 대신 SHA-256 digest를 사용해 메모리에 token을 남기지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final ConcurrentHashMap<String, VerifiedTokenDTO> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 검증 결과 조회, 만료된 항목은 제거 후 null 반환
+     * @param token token string
+     * @return 검증 결과, 없으면 null
+     */
+    public VerifiedTokenDTO get(String token) {
+        String key = digest(token);
+        VerifiedTokenDTO verified = cache.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(System.currentTimeMillis())) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedTokenDTO verified) {
+        if (cache.size() >= maxSize) {
+            evictExpired();
+            // 만료 항목을 비워도 가득 차 있으면 전체 비움 (다음 요청부터 다시 채워짐)
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+        }
+        cache.put(digest(token), verified);
+    }
+
+    /**
+     * 블랙리스트 등록 등으로 더 이상 신뢰할 수 없는 token 제거
+     * @param token token string
+     */
+    public void evict(String token) {
+        cache.remove(digest(token));
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(verified -> verified.isExpired(now));
+    }
+
+    private String digest(String token) {
+        return TokenDigestUtil.digest(token);
+    }
+}
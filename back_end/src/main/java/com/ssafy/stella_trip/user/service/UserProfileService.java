@@ -4,6 +4,7 @@ import com.ssafy.stella_trip.attraction.dto.AttractionWithReviewsDTO;
 import com.ssafy.stella_trip.attraction.dto.response.AttractionResponseDTO;
 import com.ssafy.stella_trip.common.dto.PageDTO;
 import com.ssafy.stella_trip.common.util.PaginationUtils;
+import com.ssafy.stella_trip.common.util.ResponseCache;
 import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
 import com.ssafy.stella_trip.dao.plan.PlanDAO;
 import com.ssafy.stella_trip.dao.user.UserDAO;
@@ -23,6 +24,10 @@ import com.ssafy.stella_trip.user.dto.response.UserProfileResponseDTO;
 import com.ssafy.stella_trip.user.exception.ProfileNotFoundException;
 import com.ssafy.stella_trip.user.exception.ProfileUpdateFailureException;
 import com.ssafy.stella_trip.user.exception.PasswordUpdateFailureException;
+import com.ssafy.stella_trip.util.LikeCounter;
+import com.ssafy.stella_trip.util.PlanCardCache;
+import com.ssafy.stella_trip.util.PlanListHydrator;
+import com.ssafy.stella_trip.util.TopReviewCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -40,6 +45,11 @@ public class UserProfileService {
     private final UserDAO userDAO;
     private final PlanDAO planDAO;
     private final AttractionDAO attractionDAO;
+    private final TopReviewCache topReviewCache;
+    private final PlanListHydrator planListHydrator;
+    private final PlanCardCache planCardCache;
+    private final ResponseCache responseCache;
+    private final LikeCounter likeCounter;
     private final PasswordEncoder passwordEncoder;
 
     private int getCurrentAuthenticatedUserId() {
@@ -125,6 +135,9 @@ public class UserProfileService {
         if (affectedRows == 0) {
             throw new ProfileUpdateFailureException("프로필 업데이트에 실패했습니다.");
         }
+        // plan 카드의 작성자 이름
+        planCardCache.invalidateAll();
+        responseCache.invalidate(ResponseCache.PLAN_SEARCH);
 
         // 업데이트된 프로필 조회
         UserProfileDTO profile = userDAO.getUserProfile(userId);
@@ -180,7 +193,7 @@ public class UserProfileService {
                 page,
                 size,
                 () -> planDAO.countUserPlansByUserId(userId),
-                (offset, pageSize) -> planDAO.getUserPlansByUserId(userId, offset, pageSize),
+                (offset, pageSize) -> planListHydrator.hydrate(planDAO.getUserPlansByUserId(userId, offset, pageSize), userId),
                 this::convertPlanToResponseDTO
         );
     }
@@ -198,7 +211,7 @@ public class UserProfileService {
                 page,
                 size,
                 () -> planDAO.countLikedPlansByUserId(userId),
-                (offset, pageSize) -> planDAO.getLikedPlansByUserId(userId, offset, pageSize),
+                (offset, pageSize) -> planListHydrator.hydrate(planDAO.getLikedPlansByUserId(userId, offset, pageSize), userId),
                 this::convertPlanToResponseDTO
         );
     }
@@ -250,7 +263,10 @@ public class UserProfileService {
                 page,
                 size,
                 () -> attractionDAO.countLikedAttractionsByUserId(userId),
-                (offset, pageSize) -> attractionDAO.getLikedAttractionsWithReviews(userId, offset, pageSize),
+                (offset, pageSize) -> topReviewCache.fillTopReviews(
+                        attractionDAO.getLikedAttractionsWithReviews(userId, offset, pageSize),
+                        TopReviewCache.MAX_TOP_REVIEWS
+                ),
                 this::convertAttractionToResponseDTO
         );
     }
@@ -265,6 +281,7 @@ public class UserProfileService {
                 .planId(planDTO.getPlanId())
                 .title(planDTO.getTitle())
                 .description(planDTO.getDescription())
+                // PlanListHydrator에서 응답용 JSON으로 채워짐
                 .stella(planDTO.getStella())
                 .startDate(planDTO.getStartDate())
                 .endDate(planDTO.getEndDate())
@@ -272,6 +289,7 @@ public class UserProfileService {
                 .isPublic(planDTO.isPublic())
                 .planWriters(convertWritersToResponse(planDTO.getWriters()))
                 .tags(convertTagsToResponse(planDTO.getTags()))
+                .liked(planDTO.isLiked())
                 .build();
     }
 
@@ -287,7 +305,7 @@ public class UserProfileService {
                 .image(attraction.getFirstImage1())
                 .address(attraction.getAddr1())
                 .contentType(attraction.getContentTypeId())
-                .likeCount(attraction.getLikeCount())
+                .likeCount(likeCounter.adjust(LikeCounter.Target.ATTRACTION, attraction.getAttractionId(), attraction.getLikeCount()))
                 .rating(attraction.getRating())
                 .latitude(attraction.getLatitude())
                 .longitude(attraction.getLongitude())
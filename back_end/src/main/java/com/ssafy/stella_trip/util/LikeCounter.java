@@ -0,0 +1,262 @@
+package com.ssafy.stella_trip.util;
+
+import com.ssafy.stella_trip.common.dto.LikeCountCheckDTO;
+import com.ssafy.stella_trip.common.dto.LikeStateDTO;
+import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import com.ssafy.stella_trip.dao.plan.PlanDAO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * plan / 여행지 / 리뷰 좋아요 수 write-behind
+ * 좋아요 추가 / 취소 시 like_count를 바로 UPDATE하지 않고 id별 변화량만 모아 두었다가,
+ * 주기적으로 대상마다 UPDATE 한 번으로 반영 (인기 있는 행 하나에 row lock이 몰리지 않도록)
+ * 조회 시에는 아직 반영되지 않은 이 서버의 변화량을 더해서 보여주고,
+ * 서버 종료 / 반영 실패로 생긴 차이는 liked_* 테이블과 비교하는 작업이 주기적으로 바로잡음
+ */
+@Slf4j
+@Component
+public class LikeCounter {
+
+    public enum Target {
+        PLAN, ATTRACTION, REVIEW
+    }
+
+    private final PlanDAO planDAO;
+    private final AttractionDAO attractionDAO;
+    private final long flushIntervalMillis;
+    private final int reconcileBatchSize;
+    private final long reconcileGraceMillis;
+    // 반영 전용 thread (다른 스케줄 작업이 오래 걸려도 반영이 밀리지 않도록)
+    private final ScheduledThreadPoolExecutor flushExecutor;
+    // 대상별 id → 아직 반영하지 않은 변화량 (ConcurrentHashMap의 key 단위 lock으로 merge / remove가 원자적)
+    private final Map<Target, ConcurrentHashMap<Integer, Integer>> deltas = new EnumMap<>(Target.class);
+
+    public LikeCounter(
+            PlanDAO planDAO,
+            AttractionDAO attractionDAO,
+            @Value("${like.counter.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${like.counter.reconcile-batch-size:500}") int reconcileBatchSize,
+            @Value("${like.counter.reconcile-grace-ms:10000}") long reconcileGraceMillis
+    ) {
+        this.planDAO = planDAO;
+        this.attractionDAO = attractionDAO;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.reconcileGraceMillis = reconcileGraceMillis;
+        this.flushExecutor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("like-counter-flush").daemon().factory());
+        for (Target target : Target.values()) {
+            deltas.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 좋아요 수 변화 기록
+     * transaction 안이라면 commit 이후에 기록 (rollback된 좋아요는 반영되지 않도록)
+     * @param target 대상
+     * @param id 대상 id
+     * @param delta 변화량 (좋아요 +1, 취소 -1)
+     */
+    public void add(Target target, int id, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(target, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(target, id, delta);
+            }
+        });
+    }
+
+    /**
+     * DB의 좋아요 수에 아직 반영되지 않은 변화량을 더한 값
+     * @param target 대상
+     * @param id 대상 id
+     * @param likeCount DB에서 조회한 좋아요 수
+     */
+    public int adjust(Target target, int id, int likeCount) {
+        Integer delta = deltas.get(target).get(id);
+        return delta == null ? likeCount : Math.max(likeCount + delta, 0);
+    }
+
+    /**
+     * 좋아요 / 취소 요청의 응답 상태
+     * 같은 transaction 안에서 add한 변화량은 commit 전이라 아직 모이지 않았으므로 따로 더함
+     * @param target 대상
+     * @param id 대상 id
+     * @param stored 같은 transaction에서 조회한 좋아요 여부 / DB의 좋아요 수
+     * @param uncommittedDelta 이번 요청의 변화량 (바뀌지 않았으면 0)
+     */
+    public LikeStateDTO resolve(Target target, int id, LikeStateDTO stored, int uncommittedDelta) {
+        stored.setLikeCount(Math.max(adjust(target, id, stored.getLikeCount()) + uncommittedDelta, 0));
+        return stored;
+    }
+
+    /**
+     * 모아 둔 변화량을 대상마다 UPDATE 한 번으로 반영
+     */
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            ConcurrentHashMap<Integer, Integer> pending = deltas.get(target);
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            // key마다 꺼내면서 지우므로, 그 사이에 들어온 변화량은 다음 반영 때 처리됨
+            Map<Integer, Integer> batch = new HashMap<>();
+            for (Integer id : pending.keySet()) {
+                Integer delta = pending.remove(id);
+                if (delta != null && delta != 0) {
+                    batch.put(id, delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            try {
+                switch (target) {
+                    case PLAN -> planDAO.applyLikeCountDeltas(batch);
+                    case ATTRACTION -> attractionDAO.applyAttractionLikeCountDeltas(batch);
+                    case REVIEW -> attractionDAO.applyReviewLikeCountDeltas(batch);
+                }
+            } catch (DataAccessException e) {
+                // 다음 반영 때 다시 시도
+                batch.forEach((id, delta) -> merge(target, id, delta));
+                log.warn(target + " 좋아요 수 반영 실패, 대상 수: " + batch.size() + ", 에러 메세지: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * liked_* 테이블 기준으로 좋아요 수가 다른 행만 보정
+     * 좋아요는 liked_*에 먼저 commit되고 좋아요 수는 각 서버가 나중에 반영하므로,
+     * 한 번 비교해서 다르다고 바로 고치면 아직 반영되지 않은 (다른 서버의) 변화량이 보정값 위에 한 번 더 더해짐
+     * 그래서 id 순서로 조금씩 비교해 다른 행을 모아 두고, 반영 주기보다 충분히 기다린 뒤 다시 비교해서
+     * 저장된 값과 liked_* 기준 값이 둘 다 그대로인 행만 (그 사이 바뀌지 않았다는 조건으로) 한 행씩 수정
+     * 반영이 기다리는 시간보다 오래 실패하고 있는 변화량은 구분할 수 없으므로, 이 서버의 미반영 변화량이 있는 행은 건너뜀
+     */
+    @Scheduled(
+            initialDelayString = "${like.counter.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${like.counter.reconcile-interval-ms:3600000}"
+    )
+    public void reconcile() {
+        flush();
+        try {
+            Map<Target, Map<Integer, LikeCountCheckDTO>> candidates = new EnumMap<>(Target.class);
+            for (Target target : Target.values()) {
+                candidates.put(target, findMismatches(target));
+            }
+            if (candidates.values().stream().allMatch(Map::isEmpty)) {
+                return;
+            }
+
+            Thread.sleep(reconcileGraceMillis);
+
+            Map<Target, Integer> fixed = new EnumMap<>(Target.class);
+            for (Target target : Target.values()) {
+                fixed.put(target, fixStableMismatches(target, candidates.get(target)));
+            }
+            log.info("좋아요 수 재계산 완료, 수정된 행: " + fixed);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 재계산 실패, 에러 메세지: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        flushExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // 예외가 나면 이후 예약이 취소되므로 여기서 처리
+                log.warn("좋아요 수 반영 실패, 에러 메세지: " + e.getMessage());
+            }
+        }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    // id 순서로 batch 크기만큼씩 비교해서 좋아요 수가 다른 행
+    private Map<Integer, LikeCountCheckDTO> findMismatches(Target target) {
+        Map<Integer, LikeCountCheckDTO> mismatches = new HashMap<>();
+        int afterId = 0;
+        while (true) {
+            List<LikeCountCheckDTO> checks = getChecks(target, afterId, null);
+            for (LikeCountCheckDTO check : checks) {
+                if (check.isMismatched()) {
+                    mismatches.put(check.getId(), check);
+                }
+            }
+            if (checks.size() < reconcileBatchSize) {
+                return mismatches;
+            }
+            afterId = checks.get(checks.size() - 1).getId();
+        }
+    }
+
+    // 처음 비교했을 때와 저장된 값 / liked_* 기준 값이 모두 같은 행만 수정
+    private int fixStableMismatches(Target target, Map<Integer, LikeCountCheckDTO> candidates) {
+        List<Integer> ids = new ArrayList<>(candidates.keySet());
+        int fixed = 0;
+        for (int from = 0; from < ids.size(); from += reconcileBatchSize) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + reconcileBatchSize, ids.size()));
+            for (LikeCountCheckDTO check : getChecks(target, 0, chunk)) {
+                LikeCountCheckDTO first = candidates.get(check.getId());
+                boolean stable = check.getLikeCount() == first.getLikeCount()
+                        && check.getActualCount() == first.getActualCount();
+                if (!check.isMismatched() || !stable || deltas.get(target).containsKey(check.getId())) {
+                    continue;
+                }
+                fixed += switch (target) {
+                    case PLAN -> planDAO.fixPlanLikeCount(check);
+                    case ATTRACTION -> attractionDAO.fixAttractionLikeCount(check);
+                    case REVIEW -> attractionDAO.fixReviewLikeCount(check);
+                };
+            }
+        }
+        return fixed;
+    }
+
+    private List<LikeCountCheckDTO> getChecks(Target target, int afterId, List<Integer> ids) {
+        return switch (target) {
+            case PLAN -> planDAO.getPlanLikeCountChecks(afterId, ids, reconcileBatchSize);
+            case ATTRACTION -> attractionDAO.getAttractionLikeCountChecks(afterId, ids, reconcileBatchSize);
+            case REVIEW -> attractionDAO.getReviewLikeCountChecks(afterId, ids, reconcileBatchSize);
+        };
+    }
+
+    private void merge(Target target, int id, int delta) {
+        // 합이 0이 되면 key를 지움
+        deltas.get(target).merge(id, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+}
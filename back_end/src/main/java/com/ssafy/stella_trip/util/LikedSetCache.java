@@ -0,0 +1,111 @@
+package com.ssafy.stella_trip.util;
+
+import com.ssafy.stella_trip.common.util.CacheInvalidator;
+import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import com.ssafy.stella_trip.dao.plan.PlanDAO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * 사용자별 좋아요한 plan / 여행지 / 리뷰 id 캐시 (정렬된 int 배열)
+ * 목록 쿼리에서 liked_* 를 사용자 id로 LEFT JOIN하지 않고, 사용자와 상관없는 결과에 좋아요 여부를 나중에 채움
+ * 좋아요 추가 / 취소 시 commit 이후 해당 사용자의 목록만 무효화하고 Redis pub/sub으로 다른 서버에도 전파
+ */
+@Component
+public class LikedSetCache {
+
+    private static final String INVALIDATE_CHANNEL = "liked-set-invalidate";
+    private static final IntPredicate NONE = id -> false;
+
+    private final PlanDAO planDAO;
+    private final AttractionDAO attractionDAO;
+    private final RedisMessageListenerContainer listenerContainer;
+    // "대상:userId" → 좋아요한 id
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+    private final CacheInvalidator<String> invalidator;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public LikedSetCache(
+            PlanDAO planDAO,
+            AttractionDAO attractionDAO,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${like.liked-set-cache.max-size:10000}") int maxSize,
+            @Value("${like.liked-set-cache.ttl-ms:600000}") long ttlMillis
+    ) {
+        this.planDAO = planDAO;
+        this.attractionDAO = attractionDAO;
+        this.listenerContainer = listenerContainer;
+        this.invalidator = new CacheInvalidator<>("좋아요 목록", INVALIDATE_CHANNEL, String.class, redisTemplate, cache::remove);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidator.subscribe(listenerContainer);
+    }
+
+    /**
+     * 사용자의 좋아요 여부 확인 함수
+     * @param target 대상
+     * @param userId 사용자 (로그인하지 않았으면 0 이하)
+     * @return id → 좋아요 여부 (로그인하지 않았으면 항상 false)
+     */
+    public IntPredicate likedBy(LikeCounter.Target target, int userId) {
+        if (userId <= 0) {
+            return NONE;
+        }
+        int[] ids = getLikedIds(target, userId);
+        return id -> Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * 좋아요 추가 / 취소 후 캐시 무효화 (CacheInvalidator)
+     * @param target 대상
+     * @param userId 좋아요를 변경한 사용자
+     */
+    public void invalidate(LikeCounter.Target target, int userId) {
+        invalidator.invalidate(key(target, userId));
+    }
+
+    private int[] getLikedIds(LikeCounter.Target target, int userId) {
+        long now = System.currentTimeMillis();
+        String key = key(target, userId);
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.ids;
+        }
+
+        // 조회 도중 좋아요가 바뀌어 무효화되었다면 이전 목록을 캐시에 남기지 않음
+        long stamp = invalidator.stamp(key);
+        List<Integer> loaded = switch (target) {
+            case PLAN -> planDAO.getLikedPlanIdsByUserId(userId);
+            case ATTRACTION -> attractionDAO.getLikedAttractionIdsByUserId(userId);
+            case REVIEW -> attractionDAO.getLikedReviewIdsByUserId(userId);
+        };
+        int[] ids = loaded.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        invalidator.putIfUnchanged(cache, key, new Entry(ids, now + ttlMillis), stamp);
+        return ids;
+    }
+
+    private static String key(LikeCounter.Target target, int userId) {
+        return target + ":" + userId;
+    }
+
+    private record Entry(int[] ids, long expiresAt) {
+    }
+}
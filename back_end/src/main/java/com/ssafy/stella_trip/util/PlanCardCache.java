@@ -0,0 +1,151 @@
+package com.ssafy.stella_trip.util;
+
+import com.ssafy.stella_trip.common.util.CacheInvalidator;
+import com.ssafy.stella_trip.dao.plan.PlanDAO;
+import com.ssafy.stella_trip.plan.dto.PlanDTO;
+import com.ssafy.stella_trip.plan.util.ConstellationCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * plan 카드 (제목, 기간, 공개 여부, stella, 작성자, 태그) 캐시
+ * 목록 조회는 정렬 / 페이지에 필요한 plan id와 좋아요 수만 DB에서 가져오고, 카드 내용은 여기서 채움
+ * stella는 저장 형식이 아닌 응답용 JSON으로 변환해서 보관 (목록 조회마다 decode / 직렬화하지 않도록)
+ * 좋아요 수와 좋아요 여부는 자주 바뀌거나 사용자마다 다르므로 보관하지 않음
+ * plan 정보 / 작성자 / stella 변경 시 commit 이후 무효화하고 Redis pub/sub으로 다른 서버에도 전파
+ */
+@Slf4j
+@Component
+public class PlanCardCache {
+
+    private static final String INVALIDATE_CHANNEL = "plan-card-invalidate";
+    // 전체 무효화 (작성자 이름 변경처럼 어떤 plan이 바뀌었는지 바로 알 수 없는 경우)
+    private static final int ALL = -1;
+
+    private final PlanDAO planDAO;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ConcurrentHashMap<Integer, Entry> cache = new ConcurrentHashMap<>();
+    private final CacheInvalidator<Integer> invalidator;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public PlanCardCache(
+            PlanDAO planDAO,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${plan.card-cache.max-size:20000}") int maxSize,
+            @Value("${plan.card-cache.ttl-ms:600000}") long ttlMillis
+    ) {
+        this.planDAO = planDAO;
+        this.listenerContainer = listenerContainer;
+        this.invalidator = new CacheInvalidator<>("plan 카드", INVALIDATE_CHANNEL, Integer.class, redisTemplate, this::evict)
+                .allKey(ALL);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidator.subscribe(listenerContainer);
+    }
+
+    /**
+     * plan 카드 조회 (캐시에 없는 plan만 모아서 plan / 작성자 / 태그를 IN 조회)
+     * @param planIds 조회할 planId
+     * @return planId → 카드 (작성자 / 태그 목록은 수정 불가, stella는 응답용 JSON), 삭제된 plan은 없음
+     */
+    public Map<Integer, PlanDTO> getCards(List<Integer> planIds) {
+        long now = System.currentTimeMillis();
+        Map<Integer, PlanDTO> result = new HashMap<>();
+        Set<Integer> missing = new HashSet<>();
+        for (int planId : planIds) {
+            Entry entry = cache.get(planId);
+            if (entry != null && entry.expiresAt > now) {
+                result.put(planId, entry.card);
+            } else {
+                missing.add(planId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // 조회 도중 무효화된 plan은 이전 내용을 캐시에 남기지 않음 (응답에는 사용)
+        Map<Integer, Long> loadStamps = new HashMap<>();
+        for (int planId : missing) {
+            loadStamps.put(planId, invalidator.stamp(planId));
+        }
+        Map<Integer, PlanDTO> loaded = new HashMap<>();
+        for (PlanDTO plan : planDAO.getPlanCardsByPlanIds(missing)) {
+            plan.setStella(toStellaJson(plan.getPlanId(), plan.getStella()));
+            plan.setWriters(new ArrayList<>());
+            plan.setTags(new ArrayList<>());
+            loaded.put(plan.getPlanId(), plan);
+        }
+        if (!loaded.isEmpty()) {
+            for (PlanDTO plan : planDAO.getPlanWritersByPlanIds(loaded.keySet())) {
+                loaded.get(plan.getPlanId()).setWriters(plan.getWriters());
+            }
+            for (PlanDTO plan : planDAO.getPlanTagsByPlanIds(loaded.keySet())) {
+                loaded.get(plan.getPlanId()).setTags(plan.getTags());
+            }
+        }
+
+        if (cache.size() + loaded.size() > maxSize) {
+            cache.clear();
+        }
+        loaded.forEach((planId, card) -> {
+            card.setWriters(List.copyOf(card.getWriters()));
+            card.setTags(List.copyOf(card.getTags()));
+            invalidator.putIfUnchanged(cache, planId, new Entry(card, now + ttlMillis), loadStamps.get(planId));
+            result.put(planId, card);
+        });
+        return result;
+    }
+
+    /**
+     * plan 카드 내용 변경 후 캐시 무효화 (CacheInvalidator)
+     * @param planId 변경된 plan
+     */
+    public void invalidate(int planId) {
+        invalidator.invalidate(planId);
+    }
+
+    /**
+     * 사용자 이름 변경처럼 여러 plan 카드가 바뀌는 경우 전체 무효화
+     */
+    public void invalidateAll() {
+        invalidator.invalidate(ALL);
+    }
+
+    private void evict(int planId) {
+        if (planId == ALL) {
+            cache.clear();
+        } else {
+            cache.remove(planId);
+        }
+    }
+
+    // 비어 있거나 읽을 수 없으면 그대로 / null (목록 조회 전체가 실패하지 않도록)
+    private String toStellaJson(int planId, String stored) {
+        if (stored == null || stored.isBlank()) {
+            return stored;
+        }
+        try {
+            return ConstellationCodec.toJson(stored);
+        } catch (IllegalArgumentException e) {
+            log.warn("stella 변환 실패, planId: " + planId + ", 에러 메세지: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private record Entry(PlanDTO card, long expiresAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.stella_trip.util;
+
+import com.ssafy.stella_trip.plan.dto.PlanDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * plan 목록 조회 2단계
+ * plan 테이블만으로 페이지를 자른 뒤, 페이지의 plan id로 카드 내용(PlanCardCache)과 좋아요 여부(LikedSetCache)를 채우고
+ * 좋아요 수에는 아직 반영되지 않은 변화량(LikeCounter)을 더함
+ * (plan × 작성자 × 태그 JOIN에 LIMIT을 걸면 페이지의 plan 수가 모자라고 정렬할 행도 늘어나므로)
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanListHydrator {
+
+    private final PlanCardCache planCardCache;
+    private final LikedSetCache likedSetCache;
+    private final LikeCounter likeCounter;
+
+    /**
+     * @param plans 1단계에서 조회한 plan 목록 (plan id, 좋아요 수)
+     * @param currentUserId 좋아요 여부를 확인할 사용자 (로그인하지 않았으면 0 이하)
+     * @return 같은 목록 (카드 내용 / 좋아요 여부가 채워지고, 그 사이 삭제된 plan은 빠짐, stella는 응답용 JSON)
+     */
+    public List<PlanDTO> hydrate(List<PlanDTO> plans, int currentUserId) {
+        if (plans.isEmpty()) {
+            return plans;
+        }
+        List<Integer> planIds = plans.stream().map(PlanDTO::getPlanId).toList();
+
+        Map<Integer, PlanDTO> cards = planCardCache.getCards(planIds);
+        IntPredicate liked = likedSetCache.likedBy(LikeCounter.Target.PLAN, currentUserId);
+
+        plans.removeIf(plan -> !cards.containsKey(plan.getPlanId()));
+        for (PlanDTO plan : plans) {
+            PlanDTO card = cards.get(plan.getPlanId());
+            plan.setTitle(card.getTitle());
+            plan.setStartDate(card.getStartDate());
+            plan.setEndDate(card.getEndDate());
+            plan.setPublic(card.isPublic());
+            plan.setStella(card.getStella());
+            plan.setWriters(card.getWriters());
+            plan.setTags(card.getTags());
+            plan.setLiked(liked.test(plan.getPlanId()));
+            plan.setLikeCount(likeCounter.adjust(LikeCounter.Target.PLAN, plan.getPlanId(), plan.getLikeCount()));
+        }
+        return plans;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssafy.stella_trip.util;
+
+import com.ssafy.stella_trip.common.util.CacheInvalidator;
+import com.ssafy.stella_trip.dao.plan.PlanDAO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * plan 작성자 권한 체크용 (planId → 작성자 userId 집합) 캐시
+ * plan 전체를 조회하지 않고 plan_writer 인덱스만으로 권한을 확인하기 위함
+ * 작성자 변경 시 commit 이후 로컬 캐시를 지우고 Redis pub/sub으로 다른 서버에도 전파
+ */
+@Component
+public class PlanWriterCache {
+
+    private static final String INVALIDATE_CHANNEL = "plan-writer-invalidate";
+
+    private final PlanDAO planDAO;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ConcurrentHashMap<Integer, Entry> cache = new ConcurrentHashMap<>();
+    private final CacheInvalidator<Integer> invalidator;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public PlanWriterCache(
+            PlanDAO planDAO,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${plan.writer-cache.max-size:10000}") int maxSize,
+            @Value("${plan.writer-cache.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.planDAO = planDAO;
+        this.listenerContainer = listenerContainer;
+        this.invalidator = new CacheInvalidator<>("plan 작성자", INVALIDATE_CHANNEL, Integer.class, redisTemplate, cache::remove);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidator.subscribe(listenerContainer);
+    }
+
+    /**
+     * plan의 작성자 userId 집합 조회
+     * @param planId planId
+     * @return 작성자 userId 집합, plan이 없으면 빈 집합
+     */
+    public Set<Integer> getWriterIds(int planId) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(planId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.writerIds;
+        }
+
+        // 조회 도중 작성자가 바뀌어 무효화되었다면 이전 작성자 집합을 캐시에 남기지 않음
+        long stamp = invalidator.stamp(planId);
+        Set<Integer> writerIds = Set.copyOf(planDAO.getPlanWriterIds(planId));
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        invalidator.putIfUnchanged(cache, planId, new Entry(writerIds, now + ttlMillis), stamp);
+        return writerIds;
+    }
+
+    /**
+     * 작성자 변경 후 캐시 무효화 (CacheInvalidator)
+     * @param planId planId
+     */
+    public void invalidate(int planId) {
+        invalidator.invalidate(planId);
+    }
+
+    private record Entry(Set<Integer> writerIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.ssafy.stella_trip.util;
+
+import com.ssafy.stella_trip.attraction.dto.AttractionWithReviewsDTO;
+import com.ssafy.stella_trip.attraction.dto.ReviewDTO;
+import com.ssafy.stella_trip.attraction.dto.ReviewWithUserNameDTO;
+import com.ssafy.stella_trip.attraction.dto.response.ReviewResponseDTO;
+import com.ssafy.stella_trip.common.util.CacheInvalidator;
+import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여행지별 상위 리뷰 id (평점, 최신순) 캐시
+ * 여행지 목록 조회 시 review 전체에 ROW_NUMBER를 거는 대신,
+ * 페이지의 여행지에 대해서만 캐시된 리뷰 id를 꺼내고 없는 것만 해당 여행지 리뷰로 계산
+ * 리뷰 작성 / 수정 / 삭제 시 commit 이후 무효화하고 Redis pub/sub으로 다른 서버에도 전파
+ */
+@Component
+public class TopReviewCache {
+
+    // 상세 조회는 2개, 목록 조회는 1개를 사용하므로 최대 개수만큼 보관
+    public static final int MAX_TOP_REVIEWS = 2;
+    private static final String INVALIDATE_CHANNEL = "top-review-invalidate";
+
+    private final AttractionDAO attractionDAO;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ConcurrentHashMap<Integer, Entry> cache = new ConcurrentHashMap<>();
+    private final CacheInvalidator<Integer> invalidator;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public TopReviewCache(
+            AttractionDAO attractionDAO,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${attraction.top-review-cache.max-size:50000}") int maxSize,
+            @Value("${attraction.top-review-cache.ttl-ms:600000}") long ttlMillis
+    ) {
+        this.attractionDAO = attractionDAO;
+        this.listenerContainer = listenerContainer;
+        this.invalidator = new CacheInvalidator<>("상위 리뷰", INVALIDATE_CHANNEL, Integer.class, redisTemplate, cache::remove);
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidator.subscribe(listenerContainer);
+    }
+
+    /**
+     * 여행지 목록에 상위 리뷰를 채움
+     * @param attractions 리뷰 없이 조회한 여행지 목록
+     * @param limit 여행지당 리뷰 수 (최대 MAX_TOP_REVIEWS)
+     * @return 같은 목록 (리뷰가 채워짐)
+     */
+    public List<AttractionWithReviewsDTO> fillTopReviews(List<AttractionWithReviewsDTO> attractions, int limit) {
+        if (attractions.isEmpty()) {
+            return attractions;
+        }
+
+        Map<Integer, int[]> topReviewIds = getTopReviewIds(
+                attractions.stream().map(AttractionWithReviewsDTO::getAttractionId).toList()
+        );
+        List<Integer> reviewIds = new ArrayList<>();
+        topReviewIds.values().forEach(ids -> {
+            for (int i = 0; i < Math.min(limit, ids.length); i++) {
+                reviewIds.add(ids[i]);
+            }
+        });
+
+        Map<Integer, ReviewWithUserNameDTO> reviews = new HashMap<>();
+        if (!reviewIds.isEmpty()) {
+            attractionDAO.getReviewsByReviewIds(reviewIds)
+                    .forEach(review -> reviews.put(review.getReviewId(), review));
+        }
+
+        for (AttractionWithReviewsDTO attraction : attractions) {
+            int[] ids = topReviewIds.getOrDefault(attraction.getAttractionId(), new int[0]);
+            List<ReviewResponseDTO> attractionReviews = new ArrayList<>();
+            for (int i = 0; i < Math.min(limit, ids.length); i++) {
+                ReviewWithUserNameDTO review = reviews.get(ids[i]);
+                // commit 직후 다른 서버에서 삭제된 리뷰는 무효화 이벤트 도착 전까지 빠질 수 있음
+                if (review != null) {
+                    attractionReviews.add(convertReviewToResponseDTO(review));
+                }
+            }
+            attraction.setReviews(attractionReviews);
+        }
+        return attractions;
+    }
+
+    /**
+     * 리뷰 변경 후 캐시 무효화 (CacheInvalidator)
+     * @param attractionId 리뷰가 변경된 여행지
+     */
+    public void invalidate(int attractionId) {
+        invalidator.invalidate(attractionId);
+    }
+
+    // 캐시에 없는 여행지만 모아서 한 번에 계산
+    private Map<Integer, int[]> getTopReviewIds(List<Integer> attractionIds) {
+        long now = System.currentTimeMillis();
+        Map<Integer, int[]> result = new HashMap<>();
+        Set<Integer> missing = new HashSet<>();
+        for (int attractionId : attractionIds) {
+            Entry entry = cache.get(attractionId);
+            if (entry != null && entry.expiresAt > now) {
+                result.put(attractionId, entry.reviewIds);
+            } else {
+                missing.add(attractionId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // 조회 도중 리뷰가 바뀌어 무효화된 여행지는 이전 리뷰 id를 캐시에 남기지 않음 (응답에는 사용)
+        Map<Integer, Long> loadStamps = new HashMap<>();
+        missing.forEach(attractionId -> loadStamps.put(attractionId, invalidator.stamp(attractionId)));
+        Map<Integer, List<Integer>> loaded = new HashMap<>();
+        missing.forEach(attractionId -> loaded.put(attractionId, new ArrayList<>()));
+        for (ReviewDTO review : attractionDAO.getTopReviewIdsByAttractionIds(missing, MAX_TOP_REVIEWS)) {
+            loaded.get(review.getAttractionId()).add(review.getReviewId());
+        }
+
+        if (cache.size() + loaded.size() > maxSize) {
+            cache.clear();
+        }
+        loaded.forEach((attractionId, reviewIds) -> {
+            int[] ids = reviewIds.stream().mapToInt(Integer::intValue).toArray();
+            invalidator.putIfUnchanged(cache, attractionId, new Entry(ids, now + ttlMillis), loadStamps.get(attractionId));
+            result.put(attractionId, ids);
+        });
+        return result;
+    }
+
+    private ReviewResponseDTO convertReviewToResponseDTO(ReviewWithUserNameDTO review) {
+        return ReviewResponseDTO.builder()
+                .reviewId(review.getReviewId())
+                .userId(review.getUserId())
+                .userName(review.getUserName())
+                .title(review.getTitle())
+                .content(review.getContent())
+                .rating(review.getRating())
+                .visitDate(review.getVisitDate())
+                .createdAt(review.getCreatedAt())
+                .build();
+    }
+
+    private record Entry(int[] reviewIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.stella_trip.attraction.service;
+
+import com.ssafy.stella_trip.attraction.dto.AttractionDTO;
+import com.ssafy.stella_trip.attraction.dto.response.MapAttractionResponseDTO;
+import com.ssafy.stella_trip.attraction.exception.InvalidMapAreaException;
+import com.ssafy.stella_trip.dao.attraction.AttractionDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AttractionMapServiceTest {
+
+    private final AttractionDAO attractionDAO = mock(AttractionDAO.class);
+    private AttractionMapService attractionMapService;
+
+    @BeforeEach
+    void setUp() {
+        when(attractionDAO.getAttractionGeoSources()).thenReturn(List.of(
+                attraction(1, 37.50, 127.00, 3),
+                attraction(2, 37.51, 127.01, 9),
+                attraction(3, 37.52, 127.02, 5),
+                attraction(4, 37.53, 127.03, 9)
+        ));
+        attractionMapService = new AttractionMapService(attractionDAO, 0.05, 20000, 200, 2500, 0.000125, 6, 14);
+        attractionMapService.reload();
+    }
+
+    private AttractionDTO attraction(int attractionId, double latitude, double longitude, int likeCount) {
+        return AttractionDTO.builder()
+                .attractionId(attractionId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .likeCount(likeCount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("사각 영역 조회는 좋아요 순 상위 size개만 반환한다")
+    void topAttractionsInArea() {
+        List<MapAttractionResponseDTO> attractions = attractionMapService.getAttractionsInArea(37.4, 126.9, 37.6, 127.1, null, "like", 3);
+
+        assertThat(attractions).extracting(MapAttractionResponseDTO::getAttractionId).containsExactly(2, 4, 3);
+    }
+
+    @Test
+    @DisplayName("색인 칸 수가 max-area-cells를 넘는 사각 영역은 거절한다")
+    void rejectWideArea() {
+        assertThatThrownBy(() -> attractionMapService.getAttractionsInArea(33.0, 124.5, 38.7, 131.0, null, "like", 10))
+                .isInstanceOf(InvalidMapAreaException.class);
+    }
+
+    @Test
+    @DisplayName("미리 계산하지 않는 확대 level은 넓은 영역을 거절한다")
+    void rejectWideAreaAtFineLevel() {
+        assertThatThrownBy(() -> attractionMapService.getAttractionClusters(1, 33.0, 124.5, 38.7, 131.0, null))
+                .isInstanceOf(InvalidMapAreaException.class);
+        assertThat(attractionMapService.getAttractionClusters(1, 37.499, 126.999, 37.501, 127.001, null)).hasSize(1);
+    }
+}
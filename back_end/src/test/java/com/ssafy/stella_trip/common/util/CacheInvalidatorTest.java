@@ -0,0 +1,112 @@
+package com.ssafy.stella_trip.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("unchecked")
+class CacheInvalidatorTest {
+
+    private static final String CHANNEL = "test-invalidate";
+
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final ConcurrentHashMap<String, String> cache = new ConcurrentHashMap<>();
+    private CacheInvalidator<String> invalidator;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        invalidator = new CacheInvalidator<>("테스트", CHANNEL, String.class, redisTemplate, key -> {
+            if (key.equals("all")) {
+                cache.clear();
+            } else {
+                cache.remove(key);
+            }
+        }).allKey("all");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("transaction 밖에서는 바로 지우고 전파한다")
+    void invalidateWithoutTransaction() {
+        cache.put("a", "old");
+
+        invalidator.invalidate("a");
+
+        assertThat(cache).doesNotContainKey("a");
+        verify(redisTemplate).convertAndSend(CHANNEL, "a");
+    }
+
+    @Test
+    @DisplayName("transaction 안에서는 commit 이후에 한 번 더 지우고 전파한다")
+    void invalidateAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put("a", "old");
+
+        invalidator.invalidate("a");
+        assertThat(cache).doesNotContainKey("a");
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+        // commit 전에 다시 읽힌 값
+        cache.put("a", "read-before-commit");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache).doesNotContainKey("a");
+        verify(redisTemplate).convertAndSend(CHANNEL, "a");
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회한 값을 저장하지 않는다")
+    void skipPutWhenInvalidatedDuringLoad() {
+        long stamp = invalidator.stamp("a");
+        invalidator.invalidate("a");
+
+        assertThat(invalidator.putIfUnchanged(cache, "a", "stale", stamp)).isFalse();
+        assertThat(cache).doesNotContainKey("a");
+    }
+
+    @Test
+    @DisplayName("전체 무효화 key는 모든 조회를 무효로 만든다")
+    void invalidateAll() {
+        long stamp = invalidator.stamp("a");
+        invalidator.invalidate("all");
+
+        assertThat(invalidator.putIfUnchanged(cache, "a", "stale", stamp)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 이벤트를 받으면 지우고 조회 중인 값도 저장하지 않는다")
+    void onMessage() {
+        cache.put("a", "old");
+        long stamp = invalidator.stamp("b");
+
+        invalidator.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "a".getBytes(StandardCharsets.UTF_8)), null);
+        invalidator.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "b".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(cache).doesNotContainKey("a");
+        assertThat(invalidator.putIfUnchanged(cache, "b", "stale", stamp)).isFalse();
+    }
+}
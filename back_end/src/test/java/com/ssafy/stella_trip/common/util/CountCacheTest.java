@@ -0,0 +1,48 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.ssafy.stella_trip.common.dto.CountDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings("unchecked")
+class CountCacheTest {
+
+    private final CountCache countCache = new CountCache(mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class), 100, 60000);
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 조건은 다시 세지 않고 캐시된 값을 반환한다")
+    void cachedCount() {
+        countCache.getOrCount(CountCache.ATTRACTION_REVIEW, () -> counts.incrementAndGet() * 10, 1);
+        CountDTO cached = countCache.getOrCount(CountCache.ATTRACTION_REVIEW, () -> counts.incrementAndGet() * 10, 1);
+
+        assertThat(cached.getCount()).isEqualTo(10);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("세는 도중 해당 조건이 무효화되면 센 값을 캐시에 남기지 않는다")
+    void invalidateKeyDuringCount() {
+        countCache.getOrCount(CountCache.ATTRACTION_REVIEW, () -> {
+            counts.incrementAndGet();
+            // commit 이후 무효화가 COUNT와 저장 사이에 일어난 경우
+            countCache.invalidate(CountCache.ATTRACTION_REVIEW, 1);
+            return 10;
+        }, 1);
+
+        CountDTO recounted = countCache.getOrCount(CountCache.ATTRACTION_REVIEW, () -> {
+            counts.incrementAndGet();
+            return 11;
+        }, 1);
+
+        assertThat(recounted.getCount()).isEqualTo(11);
+        assertThat(counts).hasValue(2);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.ssafy.stella_trip.common.dto.CursorPageDTO;
+import com.ssafy.stella_trip.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPaginationUtilsTest {
+
+    private final List<Integer> ids = IntStream.rangeClosed(1, 45).boxed().toList();
+
+    private CursorPageDTO<Integer> page(String cursor, int size) {
+        return CursorPaginationUtils.getCursorPagedResult(
+                cursor,
+                size,
+                CursorCodec.ID,
+                (lastId, limit) -> ids.stream()
+                        .filter(id -> lastId == null || id > lastId)
+                        .limit(limit)
+                        .toList(),
+                Function.identity(),
+                Function.identity(),
+                null
+        );
+    }
+
+    @Test
+    @DisplayName("nextCursor를 따라가면 모든 요소를 중복 없이 순서대로 조회한다")
+    void followCursorToEnd() {
+        CursorPageDTO<Integer> first = page("", 20);
+        assertThat(first.getContent()).containsExactlyElementsOf(ids.subList(0, 20));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalElements()).isNull();
+
+        CursorPageDTO<Integer> second = page(first.getNextCursor(), 20);
+        assertThat(second.getContent()).containsExactlyElementsOf(ids.subList(20, 40));
+        assertThat(second.isHasNext()).isTrue();
+
+        CursorPageDTO<Integer> last = page(second.getNextCursor(), 20);
+        assertThat(last.getContent()).containsExactlyElementsOf(ids.subList(40, 45));
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("복합 커서는 인코딩 후 같은 값으로 디코딩된다")
+    void timeIdRoundTrip() {
+        CursorCodec.TimeIdCursor cursor = new CursorCodec.TimeIdCursor(LocalDateTime.of(2025, 5, 20, 12, 30, 15), 42);
+
+        assertThat(CursorCodec.TIME_ID.decode(CursorCodec.TIME_ID.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 InvalidCursorException")
+    void invalidCursor() {
+        assertThatThrownBy(() -> CursorCodec.ID.decode("not-a-cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ssafy.stella_trip.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationStampsTest {
+
+    private final InvalidationStamps stamps = new InvalidationStamps();
+    private final ConcurrentHashMap<Integer, String> cache = new ConcurrentHashMap<>();
+
+    @Test
+    @DisplayName("조회 도중 무효화가 없으면 저장한다")
+    void putWhenUnchanged() {
+        long stamp = stamps.stamp(1);
+
+        assertThat(stamps.putIfUnchanged(cache, 1, "loaded", stamp)).isTrue();
+        assertThat(cache).containsEntry(1, "loaded");
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 이전에 읽은 값을 저장하지 않는다")
+    void skipWhenInvalidatedDuringLoad() {
+        long stamp = stamps.stamp(1);
+        // commit 이후 무효화가 조회와 put 사이에 일어난 경우
+        stamps.bump(1);
+        cache.remove(1);
+
+        assertThat(stamps.putIfUnchanged(cache, 1, "stale", stamp)).isFalse();
+        assertThat(cache).doesNotContainKey(1);
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 모든 key의 조회를 무효로 만든다")
+    void bumpAll() {
+        long first = stamps.stamp(1);
+        long second = stamps.stamp("plan-search");
+
+        stamps.bumpAll();
+
+        assertThat(stamps.stamp(1)).isNotEqualTo(first);
+        assertThat(stamps.stamp("plan-search")).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("무효화 이후 새로 시작한 조회는 저장한다")
+    void putAfterInvalidation() {
+        stamps.bump(1);
+        long stamp = stamps.stamp(1);
+
+        assertThat(stamps.putIfUnchanged(cache, 1, "fresh", stamp)).isTrue();
+        assertThat(cache).containsEntry(1, "fresh");
+    }
+}
@@ -0,0 +1,155 @@
+package com.ssafy.stella_trip.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class NearCacheTest {
+
+    private static final String KEY = "sigungu:1";
+
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        nearCache = new NearCache(redisTemplate, mock(RedisMessageListenerContainer.class), 100, 60000);
+    }
+
+    private Supplier<String> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private String get() {
+        return nearCache.get(KEY, String.class, loader("loaded"), 1, TimeUnit.HOURS);
+    }
+
+    private void publish(long version) {
+        byte[] body = (version + ":" + KEY).getBytes(StandardCharsets.UTF_8);
+        nearCache.onMessage(new DefaultMessage("near-cache-invalidate".getBytes(StandardCharsets.UTF_8), body), null);
+    }
+
+    private void lock(boolean acquired) {
+        when(valueOperations.setIfAbsent(anyString(), any(), anyLong(), any(TimeUnit.class))).thenReturn(acquired);
+    }
+
+    @Test
+    @DisplayName("자신이 저장하고 발행한 버전의 알림은 메모리 값을 지우지 않는다")
+    void ownVersionKeepsEntry() {
+        when(valueOperations.increment(anyString())).thenReturn(5L);
+        nearCache.put(KEY, "mine", 1, TimeUnit.HOURS);
+
+        publish(5);
+
+        assertThat(get()).isEqualTo("mine");
+        verify(valueOperations, never()).get(KEY);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 버전의 알림은 무시한다")
+    void olderVersionIgnored() {
+        when(valueOperations.increment(anyString())).thenReturn(5L);
+        nearCache.put(KEY, "mine", 1, TimeUnit.HOURS);
+
+        publish(4);
+
+        assertThat(get()).isEqualTo("mine");
+    }
+
+    @Test
+    @DisplayName("더 새로운 버전이 알려지면 메모리 값을 지우고 Redis에서 다시 읽는다")
+    void newerVersionEvicts() {
+        when(valueOperations.increment(anyString())).thenReturn(5L);
+        nearCache.put(KEY, "mine", 1, TimeUnit.HOURS);
+        when(valueOperations.get(KEY)).thenReturn("theirs");
+
+        publish(6);
+
+        assertThat(get()).isEqualTo("theirs");
+    }
+
+    @Test
+    @DisplayName("Redis에서 읽은 값은 어떤 버전의 알림이든 지운다")
+    void redisValueEvictedByAnyVersion() {
+        when(valueOperations.get(KEY)).thenReturn("cached");
+        assertThat(get()).isEqualTo("cached");
+
+        publish(1);
+        when(valueOperations.get(KEY)).thenReturn("updated");
+
+        assertThat(get()).isEqualTo("updated");
+    }
+
+    @Test
+    @DisplayName("조회 도중 새 버전이 알려지면 조회한 값을 메모리에 저장하지 않는다")
+    void skipLocalPutWhenPublishedDuringLoad() {
+        lock(false);
+        Supplier<String> racingLoader = () -> {
+            loads.incrementAndGet();
+            publish(7);
+            return "stale";
+        };
+
+        assertThat(nearCache.get(KEY, String.class, racingLoader, 1, TimeUnit.HOURS)).isEqualTo("stale");
+        get();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis에 값이 없으면 lock을 얻은 서버만 저장하고 알린다")
+    void onlyLockHolderWritesAndPublishes() {
+        lock(true);
+        when(valueOperations.increment(anyString())).thenReturn(1L);
+
+        assertThat(get()).isEqualTo("loaded");
+
+        verify(valueOperations).set(KEY, "loaded", 1, TimeUnit.HOURS);
+        verify(redisTemplate).convertAndSend(eq("near-cache-invalidate"), eq("1:" + KEY));
+    }
+
+    @Test
+    @DisplayName("lock을 얻지 못한 서버는 조회한 값을 메모리에만 두고 저장 / 알림하지 않는다")
+    void lockLoserCachesLocallyOnly() {
+        lock(false);
+
+        assertThat(get()).isEqualTo("loaded");
+        assertThat(get()).isEqualTo("loaded");
+
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+        verify(valueOperations, never()).increment(anyString());
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        verify(valueOperations, times(1)).get(KEY);
+    }
+}
@@ -0,0 +1,174 @@
+package com.ssafy.stella_trip.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class ResponseCacheTest {
+
+    private static final String NAMESPACE = ResponseCache.PLAN_SEARCH;
+    private static final TypeReference<String> STRING = new TypeReference<>() {};
+
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ResponseCache cache(long coalesceTimeoutMillis) {
+        return new ResponseCache(redisTemplate, mock(RedisMessageListenerContainer.class), new ObjectMapper(), 100, 60000, coalesceTimeoutMillis);
+    }
+
+    private Supplier<String> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    // started를 알린 뒤 release될 때까지 기다리는 조회
+    private Supplier<String> blockingLoader(String value, CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+
+    @Test
+    @DisplayName("같은 조건은 서버 메모리에서 반환하고 다시 조회하지 않는다")
+    void localHit() {
+        ResponseCache responseCache = cache(1000);
+
+        assertThat(responseCache.get(NAMESPACE, STRING, loader("first"), "a")).isEqualTo("first");
+        assertThat(responseCache.get(NAMESPACE, STRING, loader("second"), "a")).isEqualTo("first");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Redis에 있는 값은 DB를 조회하지 않고 사용한다")
+    void redisHit() {
+        when(valueOperations.get("response-cache:plan-search:0:0:1:a")).thenReturn("\"cached\"");
+        ResponseCache responseCache = cache(1000);
+
+        assertThat(responseCache.get(NAMESPACE, STRING, loader("loaded"), "a")).isEqualTo("cached");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 조건을 조회하면 한 번만 조회하고 결과를 공유한다")
+    void coalesce() throws Exception {
+        ResponseCache responseCache = cache(5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> responseCache.get(NAMESPACE, STRING, blockingLoader("value", started, release), "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = executor.submit(() -> responseCache.get(NAMESPACE, STRING, loader("other"), "a"));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("먼저 시작한 조회가 오래 걸리면 기다리지 않고 직접 조회한다")
+    void coalesceTimeout() throws Exception {
+        ResponseCache responseCache = cache(100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> responseCache.get(NAMESPACE, STRING, blockingLoader("slow", started, release), "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(responseCache.get(NAMESPACE, STRING, loader("direct"), "a")).isEqualTo("direct");
+        assertThat(loads).hasValue(2);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    @DisplayName("namespace 무효화는 세대 번호를 올리고 서버 메모리를 비운다")
+    void invalidateNamespace() {
+        ResponseCache responseCache = cache(1000);
+        responseCache.get(NAMESPACE, STRING, loader("old"), "a");
+
+        responseCache.invalidate(NAMESPACE);
+
+        verify(valueOperations).increment("response-cache:plan-search:generation");
+        verify(redisTemplate).convertAndSend(anyString(), eq(NAMESPACE));
+        assertThat(responseCache.get(NAMESPACE, STRING, loader("new"), "a")).isEqualTo("new");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis key에 세대 번호와 조건별 번호를 붙여 저장한다")
+    void redisKeyVersions() throws Exception {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(3, 2));
+        ResponseCache responseCache = cache(1000);
+
+        responseCache.get(NAMESPACE, STRING, loader("value"), "a");
+
+        verify(valueOperations).set(eq("response-cache:plan-search:3:2:1:a"), eq("\"value\""), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("조회 도중 해당 조건이 무효화되면 조회한 값을 서버 메모리에 남기지 않는다")
+    void invalidateKeyDuringLoad() {
+        ResponseCache responseCache = cache(1000);
+
+        String value = responseCache.get(NAMESPACE, STRING, () -> {
+            loads.incrementAndGet();
+            // commit 이후 무효화가 조회와 저장 사이에 일어난 경우
+            responseCache.invalidate(NAMESPACE, "a");
+            return "stale";
+        }, "a");
+
+        assertThat(value).isEqualTo("stale");
+        verify(valueOperations).increment("response-cache:plan-search:version:1:a");
+        assertThat(responseCache.get(NAMESPACE, STRING, loader("fresh"), "a")).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,4 +50,72 @@ class PlanDAOTest {
         System.out.println("PlanDTO: " + plan);
         System.out.println("Routes: " + plan.getRoutes());
     }
+
+    @Test
+    @DisplayName("목록 2단계 조회로 plan id별 작성자와 태그를 조회한다")
+    void testGetPlanWritersAndTagsByPlanIds() {
+        // given
+        List<Integer> planIds = List.of(1); // 테스트 데이터베이스에 존재하는 plan_id 값
+
+        // when
+        List<PlanDTO> writers = planDAO.getPlanWritersByPlanIds(planIds);
+        List<PlanDTO> tags = planDAO.getPlanTagsByPlanIds(planIds);
+
+        // then
+        assertThat(writers).hasSize(1);
+        assertThat(writers.get(0).getPlanId()).isEqualTo(1);
+        assertThat(writers.get(0).getWriters()).isNotEmpty();
+        assertThat(tags).hasSize(1);
+        assertThat(tags.get(0).getTags()).allSatisfy(tag -> assertThat(tag.getName()).isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("작성자 / 태그가 여러 개인 plan도 페이지마다 서로 다른 plan이 size개씩, 페이지 간 겹치지 않게 조회된다")
+    void testPlanPagesAreDistinctAndStable() {
+        // given: 작성자 2명, 태그 2개인 공개 plan 5개 (좋아요 수 / 생성 시각이 같아 plan_id로만 순서가 정해짐)
+        String title = "페이지 테스트 " + System.nanoTime();
+        List<String> tags = List.of(title + " A", title + " B");
+        planDAO.insertTags(tags);
+        List<Integer> insertedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PlanDTO plan = PlanDTO.builder()
+                    .title(title)
+                    .description("")
+                    .startDate(LocalDate.of(2025, 1, 1))
+                    .endDate(LocalDate.of(2025, 1, 2))
+                    .isPublic(true)
+                    .build();
+            planDAO.insertPlan(plan);
+            planDAO.insertPlanWriter(plan.getPlanId(), 1); // 테스트 데이터베이스에 존재하는 user_id 값
+            planDAO.insertPlanWriter(plan.getPlanId(), 2);
+            planDAO.linkTagsToPlan(plan.getPlanId(), tags);
+            insertedIds.add(plan.getPlanId());
+        }
+        int size = 2;
+
+        // when
+        List<List<Integer>> pages = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            pages.add(planDAO.getPlansByCondition(page * size, size, title, null, null, 0, 0, "like").stream()
+                    .map(PlanDTO::getPlanId)
+                    .toList());
+        }
+        List<Integer> writerFirstPage = planDAO.getPlansByWriterId(1, 0, size).stream()
+                .map(PlanDTO::getPlanId)
+                .toList();
+
+        // then
+        assertThat(pages.get(0)).hasSize(size).doesNotHaveDuplicates();
+        assertThat(pages.get(1)).hasSize(size).doesNotHaveDuplicates();
+        assertThat(pages.get(2)).hasSize(1);
+        List<Integer> allIds = pages.stream().flatMap(List::stream).toList();
+        assertThat(allIds).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(insertedIds)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        // 같은 조건으로 다시 조회해도 같은 페이지
+        assertThat(planDAO.getPlansByCondition(size, size, title, null, null, 0, 0, "like").stream()
+                .map(PlanDTO::getPlanId)
+                .toList()).isEqualTo(pages.get(1));
+        assertThat(writerFirstPage).hasSize(size).doesNotHaveDuplicates();
+    }
 }
@@ -0,0 +1,72 @@
+package com.ssafy.stella_trip.plan.util;
+
+import com.ssafy.stella_trip.plan.dto.ConstellationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConstellationCodecTest {
+
+    private static final String LEGACY_JSON = "{\"nodes\":[{\"name\":\"경복궁\",\"x\":250,\"y\":500},{\"name\":\"광화문\",\"x\":240,\"y\":480},"
+            + "{\"name\":\"남산서울타워\",\"x\":0,\"y\":0},{\"name\":\"경복궁\",\"x\":250,\"y\":500}],"
+            + "\"edges\":[{\"from\":0,\"to\":1},{\"from\":1,\"to\":2},{\"from\":2,\"to\":3}]}";
+
+    private ConstellationDTO route() {
+        return new ConstellationDTO()
+                .addNode("경복궁", 250, 500)
+                .addNode("광화문", 240, 480)
+                .addNode("남산서울타워", 0, 0)
+                .addNode("경복궁", 250, 500)
+                .addEdge(0, 1)
+                .addEdge(1, 2)
+                .addEdge(2, 3);
+    }
+
+    @Test
+    @DisplayName("압축 형식으로 저장 후 그대로 복원, 기존 JSON보다 작음")
+    void roundTrip() {
+        ConstellationDTO constellation = route();
+        constellation.setVersion(1760000000123L);
+
+        String stored = ConstellationCodec.encode(constellation);
+
+        assertThat(stored).startsWith("\"").endsWith("\"");
+        assertThat(ConstellationCodec.decode(stored)).isEqualTo(constellation);
+        assertThat(stored.getBytes(StandardCharsets.UTF_8).length).isLessThan(LEGACY_JSON.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    @DisplayName("순서대로 이어지지 않은 엣지와 빈 별자리")
+    void irregularEdges() {
+        ConstellationDTO constellation = new ConstellationDTO()
+                .addNode("a", 10, 20)
+                .addNode("b", 5, 400)
+                .addNode("c", 499, 0)
+                .addEdge(0, 2);
+
+        assertThat(ConstellationCodec.decode(ConstellationCodec.encode(constellation))).isEqualTo(constellation);
+        assertThat(ConstellationCodec.decode(ConstellationCodec.encode(new ConstellationDTO()))).isEqualTo(new ConstellationDTO());
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식은 그대로 읽고, 응답용 JSON은 변환 없이 반환")
+    void legacyJson() {
+        assertThat(ConstellationCodec.decode(LEGACY_JSON)).isEqualTo(route());
+        assertThat(ConstellationCodec.toJson(LEGACY_JSON)).isSameAs(LEGACY_JSON);
+        assertThat(ConstellationCodec.toJson(ConstellationCodec.encode(route()))).isEqualTo(LEGACY_JSON);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 version과 손상된 데이터")
+    void invalid() {
+        // version 2
+        assertThatThrownBy(() -> ConstellationCodec.decode("\"Ag\"")).isInstanceOf(IllegalArgumentException.class);
+        // 이름 개수만 있고 이름이 없음
+        assertThatThrownBy(() -> ConstellationCodec.decode("\"AQAF\"")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ConstellationCodec.decode("nodes")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.stella_trip.plan.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteOptimizerTest {
+
+    // 같은 위도에서 경도 순서가 0, 4, 1, 3, 2 로 뒤섞인 5곳
+    private final double[] latitudes = {37.5, 37.5, 37.5, 37.5, 37.5};
+    private final double[] longitudes = {127.00, 127.04, 127.01, 127.03, 127.02};
+
+    @Test
+    @DisplayName("직선 위의 장소는 한쪽 끝부터 차례대로 방문")
+    void optimizeLine() {
+        int[] path = RouteOptimizer.optimize(latitudes, longitudes, false, false);
+
+        assertThat(path).satisfiesAnyOf(
+                p -> assertThat(p).containsExactly(0, 2, 4, 3, 1),
+                p -> assertThat(p).containsExactly(1, 3, 4, 2, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("시작 / 끝 고정")
+    void optimizeWithFixedEnds() {
+        int[] fixedStart = RouteOptimizer.optimize(latitudes, longitudes, true, false);
+        assertThat(fixedStart).containsExactly(0, 2, 4, 3, 1);
+
+        // 가운데(127.02)에서 시작하면 가까운 쪽 끝(127.00)을 먼저 갔다가 반대쪽으로 이동
+        double[] middleFirst = {127.02, 127.05, 127.01, 127.03, 127.00};
+        assertThat(RouteOptimizer.optimize(latitudes, middleFirst, true, false)).containsExactly(0, 2, 4, 3, 1);
+
+        int[] fixedBoth = RouteOptimizer.optimize(latitudes, longitudes, true, true);
+        assertThat(fixedBoth[0]).isEqualTo(0);
+        assertThat(fixedBoth[4]).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이미 최적인 순서와 2곳 이하는 그대로 유지")
+    void keepOptimalOrder() {
+        double[] sorted = {127.00, 127.01, 127.02, 127.03, 127.04};
+
+        assertThat(RouteOptimizer.optimize(latitudes, sorted, false, false)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(RouteOptimizer.optimize(new double[]{37.5, 37.6}, new double[]{127.1, 127.0}, false, false)).containsExactly(0, 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.stella_trip.search.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoClusterGridTest {
+
+    private record Place(double latitude, double longitude, int type) {
+    }
+
+    private final List<Place> places = List.of(
+            new Place(37.10, 127.10, 12),
+            new Place(37.30, 127.30, 12),
+            new Place(37.20, 127.20, 39),
+            new Place(38.50, 127.50, 39)
+    );
+
+    private GeoClusterGrid grid() {
+        return GeoClusterGrid.build(places, Place::latitude, Place::longitude, Place::type, 1);
+    }
+
+    @Test
+    @DisplayName("칸별 개수, 중심점, 가장 많은 분류")
+    void clusters() {
+        List<GeoClusterGrid.Cluster> clusters = grid().clusters(37, 127, 37.5, 127.5, type -> true);
+
+        assertThat(clusters).hasSize(1);
+        GeoClusterGrid.Cluster cluster = clusters.get(0);
+        assertThat(cluster.count()).isEqualTo(3);
+        assertThat(cluster.latitude()).isCloseTo(37.2, within(1e-9));
+        assertThat(cluster.longitude()).isCloseTo(127.2, within(1e-9));
+        assertThat(cluster.dominantCategory()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("분류 조건은 칸의 분류별 집계만 합산")
+    void filterCategory() {
+        GeoClusterGrid grid = grid();
+
+        List<GeoClusterGrid.Cluster> clusters = grid.clusters(37, 127, 38.9, 127.9, type -> type == 39);
+        assertThat(clusters).extracting(GeoClusterGrid.Cluster::count).containsExactlyInAnyOrder(1, 1);
+        assertThat(clusters).extracting(GeoClusterGrid.Cluster::dominantCategory).containsOnly(39);
+        assertThat(grid.clusters(37, 127, 37.5, 127.5, type -> type == 14)).isEmpty();
+    }
+}
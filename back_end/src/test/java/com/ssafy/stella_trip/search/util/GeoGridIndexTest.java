@@ -0,0 +1,66 @@
+package com.ssafy.stella_trip.search.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoGridIndexTest {
+
+    private record Place(String name, double latitude, double longitude) {
+    }
+
+    private final List<Place> places = List.of(
+            new Place("경복궁", 37.5796, 126.9770),
+            new Place("광화문", 37.5759, 126.9769),
+            new Place("남산서울타워", 37.5512, 126.9882),
+            new Place("해운대 해수욕장", 35.1587, 129.1604)
+    );
+
+    private GeoGridIndex<Place> index(double cellDegrees) {
+        return GeoGridIndex.build(places, Place::latitude, Place::longitude, cellDegrees);
+    }
+
+    @Test
+    @DisplayName("반경 안의 값을 가까운 순으로 반환")
+    void nearby() {
+        GeoGridIndex<Place> index = index(0.01);
+
+        List<GeoGridIndex.Hit<Place>> hits = index.nearby(37.5796, 126.9770, 1000, place -> true);
+        assertThat(hits).extracting(hit -> hit.value().name()).containsExactly("경복궁", "광화문");
+        assertThat(hits.get(1).distanceMeters()).isCloseTo(411, within(5.0));
+
+        // 칸 여러 개에 걸친 반경
+        assertThat(index.nearby(37.5796, 126.9770, 5000, place -> true))
+                .extracting(hit -> hit.value().name())
+                .containsExactly("경복궁", "광화문", "남산서울타워");
+        assertThat(index.nearby(37.5796, 126.9770, 5000, place -> place.name().startsWith("남산")))
+                .extracting(hit -> hit.value().name())
+                .containsExactly("남산서울타워");
+    }
+
+    @Test
+    @DisplayName("사각 영역 조회는 칸 크기나 영역 크기와 상관없이 같은 결과")
+    void withinArea() {
+        for (double cellDegrees : new double[]{0.001, 0.05, 10}) {
+            GeoGridIndex<Place> index = index(cellDegrees);
+
+            assertThat(index.within(37.55, 126.97, 37.58, 126.99, place -> true))
+                    .extracting(Place::name)
+                    .containsExactlyInAnyOrder("경복궁", "광화문", "남산서울타워");
+            assertThat(index.within(33, 124, 39, 132, place -> true)).hasSize(4);
+            assertThat(index.within(36, 124, 37, 132, place -> true)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("haversine 거리")
+    void distance() {
+        // 서울 - 부산 약 325km
+        assertThat(GeoGridIndex.distanceMeters(37.5665, 126.9780, 35.1796, 129.0756)).isCloseTo(325_000, within(2_000.0));
+        assertThat(GeoGridIndex.distanceMeters(37.5, 127.0, 37.5, 127.0)).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.stella_trip.search.util;
+
+import com.ssafy.stella_trip.search.dto.SearchDocumentDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+
+    private final List<SearchDocumentDTO> documents = List.of(
+            document(1, "경복궁", "서울특별시 종로구 사직로 161"),
+            document(2, "남산서울타워", "서울특별시 용산구 남산공원길 105"),
+            document(3, "해운대 해수욕장", "부산광역시 해운대구 우동"),
+            document(4, "Seoul Forest", "서울특별시 성동구 뚝섬로 273")
+    );
+
+    private List<Integer> ids(SearchIndex index, String keyword, boolean titleOnly) {
+        return index.match(NGramIndex.normalize(keyword), titleOnly).stream()
+                .map(document -> document.source().getId())
+                .sorted()
+                .toList();
+    }
+
+    private SearchIndex index() {
+        SearchIndex index = new SearchIndex();
+        index.rebuild(() -> documents);
+        return index;
+    }
+
+    @Test
+    @DisplayName("LIKE '%keyword%'와 같은 부분 문자열 검색")
+    void matchSubstring() {
+        SearchIndex index = index();
+
+        assertThat(ids(index, "서울", true)).containsExactly(2);
+        assertThat(ids(index, "서울", false)).containsExactly(1, 2, 4);
+        assertThat(ids(index, "해수욕", true)).containsExactly(3);
+        // 연속된 문자열이 아니면 일치하지 않음
+        assertThat(ids(index, "서울남산", false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어와 대소문자 / 전각 문자 정규화")
+    void matchSingleCharacterAndNormalized() {
+        SearchIndex index = index();
+
+        assertThat(ids(index, "궁", true)).containsExactly(1);
+        assertThat(ids(index, "ＳＥＯＵＬ", true)).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("재생성 전 변경분은 base보다 우선하고, 삭제는 결과에서 빠짐")
+    void overlayChanges() {
+        SearchIndex index = index();
+
+        index.put(2, document(2, "N서울타워", "서울특별시 용산구"));
+        index.put(3, null);
+        index.put(5, document(5, "서울숲", "서울특별시 성동구"));
+
+        assertThat(ids(index, "서울", true)).containsExactly(2, 5);
+        assertThat(ids(index, "해운대", false)).isEmpty();
+    }
+
+    private static SearchDocumentDTO document(int id, String title, String subText) {
+        return SearchDocumentDTO.builder()
+                .id(id)
+                .title(title)
+                .subText(subText)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssafy.stella_trip.search.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    // 값 → 점수
+    private final Map<String, Integer> likes = Map.of(
+            "해운대 해수욕장", 50,
+            "해운대 시장", 10,
+            "해동용궁사", 30,
+            "해수욕장 캠핑", 5,
+            "경복궁", 100
+    );
+
+    private PrefixTrie<String> trie(int topK) {
+        return PrefixTrie.build(
+                List.copyOf(likes.keySet()),
+                title -> title.equals("해운대 해수욕장") ? List.of(title, "해수욕장") : List.of(title),
+                likes::get,
+                topK
+        );
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 값을 점수 순으로 반환")
+    void searchByPrefix() {
+        PrefixTrie<String> trie = trie(10);
+
+        assertThat(trie.search("해", 10)).containsExactly("해운대 해수욕장", "해동용궁사", "해운대 시장", "해수욕장 캠핑");
+        // 압축된 edge 중간에서 끝나는 접두어
+        assertThat(trie.search("해운대 해", 10)).containsExactly("해운대 해수욕장");
+        assertThat(trie.search("경복궁", 10)).containsExactly("경복궁");
+        assertThat(trie.search("경복궁역", 10)).isEmpty();
+        assertThat(trie.search("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 값이 여러 key로 일치해도 한 번만 반환하고 topK까지만 보관")
+    void distinctAndLimited() {
+        PrefixTrie<String> trie = trie(2);
+
+        assertThat(trie.search("해수욕장", 10)).containsExactly("해운대 해수욕장", "해수욕장 캠핑");
+        assertThat(trie.search("해", 10)).containsExactly("해운대 해수욕장", "해동용궁사");
+    }
+}